@@ -0,0 +1,55 @@
+package org.example.expert;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (in-memory H2, 기본은 웹 서버 없음)
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        return start(new Class<?>[0], extraArgs);
+    }
+
+    public static ConfigurableApplicationContext start(Class<?>[] additionalSources, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--spring.main.web-application-type=none"));
+        args.addAll(List.of(extraArgs));
+        return run(additionalSources, args);
+    }
+
+    /**
+     * 임의 포트에 내장 톰캣까지 띄운 컨텍스트 (포트는 local.server.port 로 확인)
+     */
+    public static ConfigurableApplicationContext startServer(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        args.addAll(List.of(extraArgs));
+        return run(new Class<?>[0], args);
+    }
+
+    private static ConfigurableApplicationContext run(Class<?>[] additionalSources, List<String> extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                // 벤치마크 중 외부 날씨 API 를 호출하지 않도록 닫힌 포트를 지정합니다.
+                "--weather.api.base-url=http://127.0.0.1:9",
+                "--jwt.secret.key=" + Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes())
+        ));
+        args.addAll(extraArgs);
+
+        List<Class<?>> sources = new ArrayList<>(List.of(ExpertApplication.class));
+        sources.addAll(List.of(additionalSources));
+
+        return SpringApplication.run(sources.toArray(Class<?>[]::new), args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert;
+
+import org.example.expert.domain.comment.controller.CommentController;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.controller.ManagerController;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MockMvc 없이 컨트롤러 핸들러를 직접 호출하는 조회 API 벤치마크 (in-memory H2)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmark {
+
+    private static final int USER_COUNT = 10;
+    private static final int TODO_COUNT = 1_000;
+    private static final int COMMENTS_PER_TODO = 10;
+
+    private ConfigurableApplicationContext context;
+    private TodoController todoController;
+    private CommentController commentController;
+    private ManagerController managerController;
+    private long minTodoId;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User("user" + i + "@email.com", "password", UserRole.USER));
+        }
+        users = userRepository.saveAll(users);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", users.get(i % USER_COUNT)));
+        }
+        todos = todoRepository.saveAll(todos);
+        minTodoId = todos.get(0).getId();
+
+        List<Comment> comments = new ArrayList<>();
+        for (Todo todo : todos) {
+            for (int i = 0; i < COMMENTS_PER_TODO; i++) {
+                comments.add(new Comment("comment" + i, users.get(i % USER_COUNT), todo));
+            }
+        }
+        commentRepository.saveAll(comments);
+
+        todoController = context.getBean(TodoController.class);
+        commentController = context.getBean(CommentController.class);
+        managerController = context.getBean(ManagerController.class);
+
+        // getTodosDeepPage 와 같은 위치(마지막 페이지)를 가리키는 커서를 미리 구해 둡니다.
+        String cursor = "";
+        for (int i = 1; i < TODO_COUNT / 10; i++) {
+            cursor = todoController.getTodosByCursor(cursor, 10).getBody().getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomTodoId() {
+        return minTodoId + ThreadLocalRandom.current().nextInt(TODO_COUNT);
+    }
+
+    // 조건부 요청 헤더가 없는 요청 (버전 조회 후 항상 본문까지 만듭니다)
+    private static WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public Object getTodosFirstPage() {
+        return todoController.getTodos(1, 10, webRequest());
+    }
+
+    @Benchmark
+    public Object getTodosDeepPage() {
+        return todoController.getTodos(TODO_COUNT / 10, 10, webRequest());
+    }
+
+    @Benchmark
+    public Object getTodosFirstPageByCursor() {
+        return todoController.getTodosByCursor("", 10);
+    }
+
+    @Benchmark
+    public Object getTodosDeepPageByCursor() {
+        return todoController.getTodosByCursor(deepCursor, 10);
+    }
+
+    @Benchmark
+    public Object getTodo() {
+        return todoController.getTodo(randomTodoId(), webRequest());
+    }
+
+    @Benchmark
+    public Object getComments() {
+        return commentController.getComments(randomTodoId(), webRequest());
+    }
+
+    @Benchmark
+    public Object getManagers() {
+        return managerController.getMembers(randomTodoId(), webRequest());
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert;
+
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 톰캣에 동시 연결 2,000개로 조회 요청을 보내는 부하 테스트 (in-memory H2)
+ * - threading=platform : 톰캣 워커 스레드(기본 200개)로 요청 처리
+ * - threading=virtual : virtual-threads 프로파일, 요청마다 가상 스레드 (-PjavaVersion=21 로 실행해야 합니다)
+ * Throughput 으로 처리량을, SampleTime 으로 p99 응답 시간을 비교합니다.
+ * 클라이언트와 서버가 같은 JVM/CPU 를 나눠 쓰므로 절대값보다 두 모드의 상대 비교로 봐야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(ServerLoadBenchmark.CONNECTIONS)
+@Fork(1)
+public class ServerLoadBenchmark {
+
+    static final int CONNECTIONS = 2_000;
+    private static final int TODO_COUNT = 1_000;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String bearerToken;
+    private long minTodoId;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = threading.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("threading=virtual 은 -PjavaVersion=21 로 실행해야 합니다.");
+        }
+
+        context = BenchmarkContext.startServer(
+                virtual ? "--spring.profiles.active=virtual-threads" : "--spring.threads.virtual.enabled=false",
+                "--server.tomcat.max-connections=" + (CONNECTIONS * 2)
+        );
+        if (Threading.VIRTUAL.isActive(context.getEnvironment()) != virtual) {
+            throw new IllegalStateException("요청한 스레드 모드가 적용되지 않았습니다. threading: " + threading);
+        }
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("load@email.com", "password", UserRole.USER));
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        minTodoId = context.getBean(TodoRepository.class).saveAll(todos).get(0).getId();
+
+        bearerToken = context.getBean(JwtUtil.class).createToken(user.getId(), user.getEmail(), user.getUserRole());
+        baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", bearerToken)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + path);
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * 버전 확인(PK 조회) 후 응답 캐시에서 꺼내는 단건 조회
+     */
+    @Benchmark
+    public int getTodo() throws IOException, InterruptedException {
+        return get("/todos/" + (minTodoId + ThreadLocalRandom.current().nextInt(TODO_COUNT)));
+    }
+
+    /**
+     * 목록 버전 조회와 페이지 조회로 매 요청 DB 를 두 번 거치는 목록 조회
+     */
+    @Benchmark
+    public int getTodos() throws IOException, InterruptedException {
+        return get("/todos?page=1&size=10");
+    }
+}
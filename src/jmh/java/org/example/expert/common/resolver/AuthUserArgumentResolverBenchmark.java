@@ -0,0 +1,53 @@
+package org.example.expert.common.resolver;
+
+import org.example.expert.common.annotation.Auth;
+import org.example.expert.common.dto.AuthUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 채운 request attribute 로 AuthUser 를 만드는 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private MethodParameter parameter;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new AuthUserArgumentResolver();
+        parameter = new MethodParameter(
+                AuthUserArgumentResolverBenchmark.class.getDeclaredMethod("handler", AuthUser.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "test@email.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public boolean supportsParameter() {
+        return resolver.supportsParameter(parameter);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(parameter, null, webRequest, null);
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@Auth AuthUser authUser) {
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 처리량 비교
+ * - legacy* : 호출마다 builder/parser 를 새로 만드는 기존 방식
+ * - 나머지 : init() 에서 만들어 둔 parser 와 풀에 보관한 Mac 을 재사용하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@email.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "test@email.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public String legacyCreateToken() {
+        Date date = new Date();
+
+        return "Bearer " +
+                Jwts.builder()
+                        .setSubject(String.valueOf(1L))
+                        .claim("email", "test@email.com")
+                        .claim("userRole", UserRole.USER)
+                        .setExpiration(new Date(date.getTime() + 60 * 60 * 1000L))
+                        .setIssuedAt(date)
+                        .signWith(key, SignatureAlgorithm.HS256)
+                        .compact();
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims legacyExtractClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 해싱/검증 지연 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        encodedPassword = passwordEncoder.encode("Password1!");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1!", encodedPassword);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.BenchmarkContext;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 에 일정 100,000건(작성자 담당자 cascade 포함 200,000 row) insert 소요 시간 비교
+ * - batchSize=1 : JDBC 배치 없이 row 마다 한 번씩 전송
+ * - batchSize=50 : hibernate.jdbc.batch_size=50, order_inserts 로 todos/managers 를 각각 모아서 전송
+ * 두 경우 모두 id 는 id_generators 에서 50개씩 미리 할당받으며, 1,000건마다 flush/clear 후 커밋합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TodoBulkInsertBenchmark {
+
+    private static final int TODO_COUNT = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private long userId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.open-in-view=false"
+        );
+
+        userId = context.getBean(UserRepository.class)
+                .save(new User("bench@email.com", "password", UserRole.USER))
+                .getId();
+
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertTodos() {
+        for (int from = 0; from < TODO_COUNT; from += CHUNK_SIZE) {
+            int offset = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = entityManager.getReference(User.class, userId);
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    entityManager.persist(new Todo("title" + (offset + i), "contents", "Sunny", user));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return TODO_COUNT;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.BenchmarkContext;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록 한 페이지 조회 비교 (in-memory H2)
+ * - entity : 기존 방식, user 를 fetch join 한 Todo 엔티티를 읽은 뒤 TodoResponse 로 변환 (+ count 쿼리)
+ * - projection : TodoService.getTodos, JPQL 생성자 표현식으로 TodoResponse 를 바로 조회 (+ count 쿼리)
+ * 페이지당 할당량은 -Pjmh.profilers=gc 로 실행해 gc.alloc.rate.norm 을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoListBenchmark {
+
+    private static final int TODO_COUNT = 1_000;
+
+    @Param({"entity", "projection"})
+    private String mode;
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(new User("user" + i + "@email.com", "password", UserRole.USER));
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", users.get(i % users.size())));
+        }
+        context.getBean(TodoRepository.class).saveAll(todos);
+
+        todoService = context.getBean(TodoService.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos() {
+        if (mode.equals("entity")) {
+            return readOnlyTransaction.execute(status -> {
+                List<Todo> todos = entityManager
+                        .createQuery("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                        .setMaxResults(size)
+                        .getResultList();
+                Long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+
+                return new PageImpl<>(todos, PageRequest.of(0, size), total).map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ));
+            });
+        }
+        return todoService.getTodos(1, size);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.BenchmarkContext;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 날씨 API 에서 일정 저장 시 커넥션 풀 점유 비교
+ * - insideTransaction : 한 트랜잭션 안에서 날씨 조회 후 insert (기존 saveTodo 와 동일, 날씨 조회 동안 커넥션 점유)
+ * - outsideTransaction : 현재 saveTodo (날씨 조회 후 insert 할 때만 커넥션 점유)
+ * 풀 크기 4, 스레드 16, 날씨 조회 50ms 기준이며 iteration 마다 최대 active/대기 스레드 수를 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(16)
+@Fork(1)
+public class TodoSaveBenchmark {
+
+    private static final long WEATHER_DELAY_MILLIS = 50;
+
+    @Param({"insideTransaction", "outsideTransaction"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+    private WeatherClient weatherClient;
+    private TransactionTemplate transactionTemplate;
+    private HikariPoolMXBean pool;
+    private AuthUser authUser;
+
+    private ScheduledExecutorService sampler;
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger maxAwaiting = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(
+                new Class<?>[]{SlowWeatherConfig.class},
+                "--spring.datasource.hikari.maximum-pool-size=4",
+                "--spring.datasource.hikari.minimum-idle=4",
+                "--spring.jpa.open-in-view=false"
+        );
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("bench@email.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        todoService = context.getBean(TodoService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        weatherClient = context.getBean(WeatherClient.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        pool = ((HikariDataSource) context.getBean(DataSource.class)).getHikariPoolMXBean();
+
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }, 0, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPool() {
+        System.out.printf("%n[%s] max active connections: %d, max threads awaiting connection: %d%n",
+                mode, maxActive.getAndSet(0), maxAwaiting.getAndSet(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sampler.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public Object saveTodo() {
+        TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+        if (mode.equals("insideTransaction")) {
+            return transactionTemplate.execute(status -> {
+                String weather = weatherClient.getTodayWeather();
+                return todoRepository.save(new Todo(request.getTitle(), request.getContents(), weather, User.fromAuthUser(authUser)));
+            });
+        }
+        return todoService.saveTodo(authUser, request);
+    }
+
+    @Configuration
+    static class SlowWeatherConfig {
+
+        @Bean
+        @Primary
+        public WeatherClient slowWeatherClient() {
+            return new WeatherClient(new RestTemplate(), CircuitBreaker.ofDefaults("bench"),
+                    Bulkhead.ofDefaults("bench"), new SimpleMeterRegistry(), "http://127.0.0.1:9") {
+                @Override
+                public String getWeather(LocalDate date) {
+                    try {
+                        Thread.sleep(WEATHER_DELAY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "Sunny";
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoService.getTodos 의 서비스 계층 비용 측정 (DB 접근 제외)
+ * - 목록은 JPQL 생성자 표현식으로 TodoResponse 를 바로 조회하므로, 저장소는 미리 만든 응답 페이지를 돌려줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        User user = new User("test@email.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        List<TodoResponse> todos = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            todos.add(new TodoResponse(i, "title" + i, "contents" + i, "Sunny",
+                    user.getId(), user.getEmail(), LocalDateTime.now(), LocalDateTime.now()));
+        }
+        Page<TodoResponse> page = new PageImpl<>(todos, PageRequest.of(0, size), size);
+
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(),
+                new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findTodoResponses")) {
+                        return page;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        todoService = new TodoService(todoRepository, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos() {
+        return todoService.getTodos(1, size);
+    }
+}
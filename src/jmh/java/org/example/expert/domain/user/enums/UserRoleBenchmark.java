@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 AuthUserArgumentResolver 에서 호출되는 UserRole.of 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserRoleBenchmark {
+
+    @Param({"USER", "admin"})
+    private String role;
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(role);
+    }
+}
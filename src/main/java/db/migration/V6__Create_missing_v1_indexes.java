@@ -0,0 +1,92 @@
+package db.migration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * V1 의 인덱스 중 없는 것만 만듭니다.
+ * - Flyway 도입 이전에 ddl-auto 로 만든 DB 는 V1 을 건너뛰고 baseline(1) 부터 시작하므로 V1 의 인덱스가 없습니다.
+ *   (PersistenceConfig 의 Flyway baseline 설정 참고)
+ * - MySQL 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로, 같은 컬럼 순서의 인덱스가 있는지 메타데이터로 확인합니다.
+ *   ddl-auto 가 다른 이름으로 만든 인덱스(예: email 의 unique 제약)가 있으면 새로 만들지 않습니다.
+ * - V1 로 만든 DB 에서는 모두 이미 있으므로 아무것도 하지 않습니다.
+ */
+public class V6__Create_missing_v1_indexes extends BaseJavaMigration {
+
+    private static final List<IndexDefinition> INDEXES = List.of(
+            new IndexDefinition("users", List.of("email"),
+                    "CREATE UNIQUE INDEX uk_users_email ON users (email)"),
+            new IndexDefinition("todos", List.of("modified_at", "id"),
+                    "CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC)"),
+            new IndexDefinition("comments", List.of("todo_id", "id"),
+                    "CREATE INDEX idx_comments_todo_id_id ON comments (todo_id, id)"),
+            new IndexDefinition("managers", List.of("todo_id", "user_id"),
+                    "CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id)")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        for (IndexDefinition index : INDEXES) {
+            if (!hasIndex(connection, index)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(index.getDdl());
+                }
+            }
+        }
+    }
+
+    private static boolean hasIndex(Connection connection, IndexDefinition index) throws SQLException {
+        // H2 는 식별자를 대문자로, MySQL 은 만든 그대로 저장하므로 두 이름으로 찾고 대소문자 구분 없이 비교합니다.
+        for (String table : List.of(index.getTable(), index.getTable().toUpperCase())) {
+            for (List<String> columns : indexColumns(connection, table).values()) {
+                if (columns.equals(index.getColumns())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 인덱스 이름 -> 컬럼 (인덱스 내 순서)
+    private static Map<String, List<String>> indexColumns(Connection connection, String table) throws SQLException {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name == null || column == null) {
+                    continue;
+                }
+                List<String> columns = indexes.computeIfAbsent(name, key -> new ArrayList<>());
+                int position = rs.getShort("ORDINAL_POSITION");
+                while (columns.size() < position) {
+                    columns.add(null);
+                }
+                columns.set(position - 1, column.toLowerCase());
+            }
+        }
+        return indexes;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class IndexDefinition {
+        private final String table;
+        private final List<String> columns;
+        private final String ddl;
+    }
+}
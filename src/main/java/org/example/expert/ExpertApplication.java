@@ -2,11 +2,13 @@ package org.example.expert;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
 
-@SpringBootApplication
+// R2DBC ConnectionFactory 빈이 생기면 JDBC DataSource 자동 설정이 꺼지므로, R2DBC 연결은 R2dbcConfig 에서 직접 만듭니다.
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
 public class ExpertApplication {
 
@@ -1,31 +1,127 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 날씨 API 클라이언트
+ * - 1년치 날씨를 한 번에 받아 MM-dd 별 366칸 배열로 보관하고, 조회는 I/O 없이 O(1) 로 처리합니다.
+ * - 애플리케이션 시작 후와 스케줄(weather.refresh.cron)에 따라 백그라운드에서 전체를 다시 받습니다.
+ * - 갱신에 실패하면 기존 배열을 계속 사용합니다.
+ * - 원격 호출은 커넥션 풀/타임아웃이 설정된 RestTemplate 으로 하며, 벌크헤드와 서킷 브레이커를 거칩니다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final int CALENDAR_SIZE = 366;
+
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final URI weatherApiUri;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // 인덱스: 윤년 기준 day-of-year - 1, 값: 날씨 (데이터가 없는 날은 null)
+    private volatile String[] calendar;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(@Qualifier("weatherRestTemplate") RestTemplate restTemplate,
+                         @Qualifier("weatherCircuitBreaker") CircuitBreaker circuitBreaker,
+                         @Qualifier("weatherBulkhead") Bulkhead bulkhead,
+                         MeterRegistry meterRegistry,
+                         @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.meterRegistry = meterRegistry;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return getWeather(LocalDate.now());
+    }
+
+    /**
+     * 특정 날짜(월/일 기준)의 날씨 조회
+     * - 아직 한 번도 불러오지 못한 경우에만 원격 API 를 동기로 호출합니다.
+     */
+    public String getWeather(LocalDate date) {
+        String[] current = calendar;
+        if (current == null) {
+            current = loadIfEmpty();
+        }
+
+        String weather = current[slot(MonthDay.from(date))];
+        if (weather == null) {
+            throw new ServerException(ExceptionCode.TODAY_WEATHER_NOT_FOUND);
+        }
+        return weather;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refreshCalendar();
+    }
+
+    @Scheduled(cron = "${weather.refresh.cron:0 0 0 * * *}")
+    public void refreshCalendar() {
+        try {
+            calendar = fetchCalendar();
+        } catch (ServerException e) {
+            log.warn("Weather refresh failed, keeping previous calendar. cause: {}", e.getMessage());
+        }
+    }
+
+    private String[] loadIfEmpty() {
+        // 여러 요청이 동시에 들어와도 원격 호출은 한 번만 하도록 잠급니다.
+        loadLock.lock();
+        try {
+            if (calendar == null) {
+                calendar = fetchCalendar();
+            }
+            return calendar;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private String[] fetchCalendar() {
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, this::requestWeather)).get();
+        } catch (RestClientException | CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Weather API call failed. cause: {}", e.getMessage());
+            throw new ServerException(ExceptionCode.WEATHER_API_FAILURE);
+        }
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -36,28 +132,46 @@ public class WeatherClient {
             throw new ServerException(ExceptionCode.EMPTY_WEATHER_DATA);
         }
 
-        String today = getCurrentDate();
-
+        String[] loaded = new String[CALENDAR_SIZE];
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() == null) {
+                continue;
+            }
+            try {
+                loaded[slot(MonthDay.parse(weatherDto.getDate(), DATE_FORMATTER))] = weatherDto.getWeather();
+            } catch (DateTimeParseException e) {
+                log.warn("Skipping invalid weather entry. date: {}", weatherDto.getDate());
             }
         }
+        return loaded;
+    }
 
-        throw new ServerException(ExceptionCode.TODAY_WEATHER_NOT_FOUND);
+    private ResponseEntity<WeatherDto[]> requestWeather() {
+        // 원격 API 응답 시간을 성공/실패별로 기록합니다.
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            ResponseEntity<WeatherDto[]> responseEntity = restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
+            outcome = "success";
+            return responseEntity;
+        } finally {
+            sample.stop(Timer.builder("weather.api.requests")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 
-    private URI buildWeatherApiUri() {
+    private int slot(MonthDay monthDay) {
+        // 2000년은 윤년이므로 02-29 까지 366칸에 모두 대응됩니다.
+        return monthDay.atYear(2000).getDayOfYear() - 1;
+    }
+
+    private URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
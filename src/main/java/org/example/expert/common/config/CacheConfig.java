@@ -0,0 +1,99 @@
+package org.example.expert.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 캐시 설정
+ * - 응답 캐시(Spring Cache): 일정 단건 조회 응답을 (일정 id, 버전) 으로 캐싱합니다.
+ *   트랜잭션보다 바깥에서 동작하도록 순서를 앞에 두어, 캐시 적중 시 커넥션을 잡지 않습니다.
+ * - 2차 캐시(Hibernate): Todo, User 엔티티를 Caffeine JCache 리전에 보관합니다.
+ * 두 캐시 모두 로컬(인스턴스별) 캐시이며 크기와 TTL 로 제한하고, 적중/미스 지표를 cache.gets 로 노출합니다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String TODO_RESPONSE_CACHE = "todoResponses";
+
+    // Hibernate 2차 캐시 리전 이름 (엔티티의 @Cache(region = ...) 와 일치해야 합니다)
+    public static final String TODO_REGION = "todos";
+    public static final String USER_REGION = "users";
+    private static final List<String> ENTITY_REGIONS = List.of(TODO_REGION, USER_REGION);
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.todo-response.max-size:1000}") long maxSize,
+            @Value("${cache.todo-response.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TODO_RESPONSE_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        // null(없는 일정)은 캐싱하지 않습니다.
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 2차 캐시용 JCache CacheManager
+     * - 컨텍스트마다 별도의 URI 로 만들어, 한 JVM 에 컨텍스트가 여러 개여도 리전이 섞이지 않습니다.
+     * - 엔티티 객체 대신 Hibernate 가 분해한 상태를 보관하므로 값 복사(store-by-value)는 끕니다.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager entityCacheManager(
+            @Value("${cache.entity.max-size:10000}") long maxSize,
+            @Value("${cache.entity.expire-after-write:30m}") Duration expireAfterWrite
+    ) {
+        javax.cache.CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("expert-entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : ENTITY_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(javax.cache.CacheManager entityCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            // 리전은 위에서 미리 만들어 두므로, 설정되지 않은 리전이 있으면 시작 시 실패합니다.
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(javax.cache.CacheManager entityCacheManager) {
+        return registry -> ENTITY_REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region), "cache.manager", "entityCacheManager"));
+    }
+}
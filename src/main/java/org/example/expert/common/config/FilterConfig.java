@@ -1,6 +1,7 @@
 package org.example.expert.common.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.common.util.JwtTokenCache;
 import org.example.expert.common.util.JwtUtil;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -11,11 +12,12 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, jwtTokenCache));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
@@ -10,6 +10,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.common.util.JwtTokenCache;
+import org.example.expert.common.util.JwtTokenCache.VerifiedToken;
 import org.example.expert.common.util.JwtUtil;
 import org.example.expert.domain.user.enums.UserRole;
 
@@ -20,6 +22,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -49,18 +52,24 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
+            // 이미 검증된 토큰이면 서명 검증과 claims 파싱을 생략합니다.
+            VerifiedToken verifiedToken = jwtTokenCache.get(jwt);
+
+            if (verifiedToken == null) {
+                // JWT 유효성 검사와 claims 추출
+                Claims claims = jwtUtil.extractClaims(jwt);
+                if (claims == null) {
+                    httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                    return;
+                }
+                verifiedToken = jwtTokenCache.put(jwt, claims);
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = verifiedToken.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", verifiedToken.getUserId());
+            httpRequest.setAttribute("email", verifiedToken.getEmail());
+            httpRequest.setAttribute("userRole", userRole.name());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
@@ -1,9 +1,89 @@
 package org.example.expert.common.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class PersistenceConfig {
+
+    /**
+     * 생성/수정 시각을 컬럼 정밀도(TIMESTAMP(6), 마이크로초)로 잘라 기록
+     * - 메모리의 엔티티(2차 캐시 포함)와 DB 에서 읽은 값이 같아야, 엔티티로 만든 ETag 가 버전 조회 쿼리로 만든 ETag 와 일치합니다.
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    /**
+     * insert/update JDBC 배치 설정
+     * - spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선합니다.
+     * - pooled-lo: id_generators 에서 읽은 값 다음부터 allocationSize 개를 메모리에서 발급합니다. (V2 마이그레이션 참고)
+     * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 배치가 multi-row insert 로 전송됩니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.batch-size:50}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+
+    /**
+     * Flyway baseline 설정
+     * - Flyway 도입 이전에 ddl-auto 로 스키마를 만든 DB 는 이력 테이블이 없어 V1 의 CREATE TABLE 에서 실패합니다.
+     *   비어 있지 않은 DB 에 이력 테이블이 없으면 그 스키마를 V1 으로 기록(baseline)하고 V2 부터 적용합니다.
+     * - ddl-auto 스키마에는 V1 의 인덱스가 없으므로 V6 가 없는 인덱스만 만듭니다.
+     * - spring.flyway.baseline-on-migrate / baseline-version 으로 직접 지정한 값이 있으면 그 값을 우선합니다.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer(
+            @Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate,
+            @Value("${spring.flyway.baseline-version:1}") String baselineVersion) {
+        return configuration -> configuration
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion(baselineVersion);
+    }
+
+    /**
+     * OSIV(spring.jpa.open-in-view) 인터셉터
+     * - 스프링 부트 기본값과 같이 요청 동안 EntityManager 를 열어 두되, 일정 가져오기(/todos/import)는 제외합니다.
+     *   가져오기는 청크마다 트랜잭션을 나눠 본문 읽기/날씨 조회 중에는 커넥션을 반납해야 하는데,
+     *   OSIV 안에서는 요청 전체가 EntityManager 하나를 공유해 첫 청크 이후 커넥션을 요청이 끝날 때까지 붙잡습니다.
+     * - 이 빈이 있으면 스프링 부트의 기본 OSIV 인터셉터는 등록되지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.open-in-view", havingValue = "true", matchIfMissing = true)
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jpa.open-in-view", havingValue = "true", matchIfMissing = true)
+    public WebMvcConfigurer openEntityManagerInViewConfigurer(OpenEntityManagerInViewInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addWebRequestInterceptor(interceptor)
+                        .excludePathPatterns("/todos/import");
+            }
+        };
+    }
 }
@@ -0,0 +1,131 @@
+package org.example.expert.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 주요 조회 쿼리의 실행 계획 검증
+ * - 시작 시 EXPLAIN 을 실행해 풀 스캔하는 쿼리가 있으면 경고 로그를 남깁니다.
+ *   db.query-plan-check.fail-on-full-scan=true 이면 기동을 중단합니다. (테스트 설정에서 사용)
+ * - H2 는 계획에 tableScan 으로 읽는 테이블 중 행 수가 min-rows 이상인 테이블이 있는지로 판단합니다.
+ * - MySQL 은 type 이 ALL 이고 예상 행 수(rows)가 min-rows 이상인 테이블이 있는지로 판단합니다.
+ *   옵티마이저는 행이 적은 테이블(작은 DB 의 users 등)을 인덱스 대신 풀 스캔하기도 하므로, 작은 테이블은 문제로 보지 않습니다.
+ * - 그 밖의 DB 는 검사하지 않습니다. db.query-plan-check.enabled=false 로 끌 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "db.query-plan-check.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    // 리포지토리 JPQL 과 같은 접근 경로의 네이티브 SQL (값은 계획에 영향이 없는 임의 값)
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    // H2 계획의 풀 스캔 표시 (예: /* PUBLIC.USERS.tableScan */)
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* (\\w+)\\.(\\w+)\\.tableScan");
+
+    static {
+        QUERIES.put("TodoRepository.findFirstPageByCursor",
+                "SELECT t.id FROM todos t JOIN users u ON u.id = t.user_id " +
+                        "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10");
+        QUERIES.put("TodoRepository.findNextPageByCursor",
+                "SELECT t.id FROM todos t JOIN users u ON u.id = t.user_id " +
+                        "WHERE t.modified_at <= TIMESTAMP '2000-01-01 00:00:00' " +
+                        "AND (t.modified_at < TIMESTAMP '2000-01-01 00:00:00' OR t.id < 1) " +
+                        "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10");
+        QUERIES.put("CollectionVersionRepository.findVersion",
+                "SELECT v.version FROM collection_versions v WHERE v.name = 'todos'");
+        QUERIES.put("CommentRepository.findCommentResponsesByTodoId",
+                "SELECT c.id FROM comments c JOIN users u ON u.id = c.user_id WHERE c.todo_id = 1");
+        QUERIES.put("CommentRepository.findCommentResponsesAfter",
+                "SELECT c.id FROM comments c JOIN users u ON u.id = c.user_id " +
+                        "WHERE c.todo_id = 1 AND c.id > 0 ORDER BY c.id LIMIT 20");
+        QUERIES.put("ManagerRepository.findManagerResponsesFromTodo",
+                "SELECT m.id FROM todos t LEFT JOIN managers m ON m.todo_id = t.id " +
+                        "LEFT JOIN users u ON u.id = m.user_id WHERE t.id = 1");
+        QUERIES.put("ManagerRepository.findManagersVersion",
+                "SELECT COUNT(m.id), MAX(m.id), MAX(m.created_at) FROM todos t LEFT JOIN managers m ON m.todo_id = t.id " +
+                        "WHERE t.id = 1 GROUP BY t.id");
+        QUERIES.put("UserRepository.findByEmail",
+                "SELECT u.id FROM users u WHERE u.email = 'query-plan@check'");
+    }
+
+    private final DataSource dataSource;
+    private final boolean failOnFullScan;
+    private final long minRows;
+
+    public QueryPlanVerifier(DataSource dataSource,
+                             @Value("${db.query-plan-check.fail-on-full-scan:false}") boolean failOnFullScan,
+                             @Value("${db.query-plan-check.min-rows:1000}") long minRows) {
+        this.dataSource = dataSource;
+        this.failOnFullScan = failOnFullScan;
+        this.minRows = minRows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String databaseProduct = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        String database = databaseProduct.toLowerCase(Locale.ROOT);
+        if (!database.contains("h2") && !database.contains("mysql")) {
+            log.info("Query plan check skipped. unsupported database: {}", databaseProduct);
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> fullScans = new ArrayList<>();
+
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.getValue());
+            log.debug("Query plan for {}: {}", query.getKey(), plan);
+
+            boolean fullScan = database.contains("h2") ? isH2FullScan(jdbcTemplate, plan) : isMySqlFullScan(plan);
+            if (fullScan) {
+                fullScans.add(query.getKey() + " -> " + plan);
+            }
+        }
+
+        if (!fullScans.isEmpty()) {
+            if (failOnFullScan) {
+                throw new IllegalStateException("인덱스를 사용하지 않는 쿼리가 있습니다. " + fullScans);
+            }
+            log.warn("Query plan check found full scans on {}. {}", databaseProduct, fullScans);
+            return;
+        }
+        log.info("Query plan check passed. {} queries verified on {}", QUERIES.size(), databaseProduct);
+    }
+
+    private boolean isH2FullScan(JdbcTemplate jdbcTemplate, List<Map<String, Object>> plan) {
+        return plan.stream()
+                .flatMap(row -> row.values().stream())
+                .flatMap(value -> H2_TABLE_SCAN.matcher(String.valueOf(value)).results())
+                .anyMatch(scan -> {
+                    Long rows = jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM \"" + scan.group(1) + "\".\"" + scan.group(2) + "\"", Long.class);
+                    return rows != null && rows >= minRows;
+                });
+    }
+
+    private boolean isMySqlFullScan(List<Map<String, Object>> plan) {
+        return plan.stream()
+                .anyMatch(row -> "ALL".equalsIgnoreCase(String.valueOf(row.get("type"))) && estimatedRows(row) >= minRows);
+    }
+
+    private static long estimatedRows(Map<String, Object> row) {
+        return row.get("rows") instanceof Number rows ? rows.longValue() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.common.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * 논블로킹 조회 API(/reactive/**) 용 R2DBC 설정
+ * - JPA 와 같은 DB 에 R2DBC 드라이버로 연결합니다. reactive.r2dbc.url 이 없으면 spring.datasource 설정(url, 계정)을 그대로 씁니다.
+ * - ConnectionFactory 를 빈으로 등록하면 스프링 부트가 JDBC DataSource 자동 설정을 건너뛰므로,
+ *   커넥션 풀은 이 설정 안에만 두고 DatabaseClient 만 빈으로 노출합니다. (같은 이유로 R2dbcAutoConfiguration 은 제외)
+ */
+@Configuration
+public class R2dbcConfig {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient databaseClient(
+            DataSourceProperties dataSourceProperties,
+            @Value("${reactive.r2dbc.url:}") String r2dbcUrl,
+            @Value("${reactive.r2dbc.pool.max-size:20}") int maxSize
+    ) {
+        String url = StringUtils.hasText(r2dbcUrl) ? r2dbcUrl : toR2dbcUrl(dataSourceProperties.determineUrl());
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        String username = dataSourceProperties.determineUsername();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closePool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    /**
+     * JDBC URL 을 같은 DB 를 가리키는 R2DBC URL 로 변환
+     * - MySQL 의 JDBC 쿼리 파라미터는 드라이버 전용 옵션이므로 옮기지 않습니다.
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null) {
+            throw new IllegalStateException("reactive.r2dbc.url 또는 spring.datasource.url 을 설정해야 합니다.");
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            return "r2dbc:h2:mem:///" + jdbcUrl.substring("jdbc:h2:mem:".length());
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:file:")) {
+            return "r2dbc:h2:file:///" + jdbcUrl.substring("jdbc:h2:file:".length());
+        }
+        if (jdbcUrl.startsWith("jdbc:mysql:")) {
+            String url = "r2dbc:mysql:" + jdbcUrl.substring("jdbc:mysql:".length());
+            int query = url.indexOf('?');
+            return query < 0 ? url : url.substring(0, query);
+        }
+        throw new IllegalStateException("R2DBC URL 로 변환할 수 없는 JDBC URL 입니다. reactive.r2dbc.url 을 설정해주세요. url: " + jdbcUrl);
+    }
+}
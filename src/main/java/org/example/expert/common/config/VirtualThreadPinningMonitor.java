@@ -0,0 +1,105 @@
+package org.example.expert.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 pinning 감시 (가상 스레드 모드에서만 동작)
+ * - synchronized 블록이나 native 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 받습니다.
+ * - 원인 프레임별로 jvm.threads.virtual.pinned 타이머에 기록하고, 처음 발견한 프레임은 스택과 함께 경고 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_STACK_DEPTH = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    // 이보다 짧게 pinning 된 구간은 기록하지 않습니다.
+    @Value("${virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started. threshold: {}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = culpritFrame(stackTrace);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.add(frame)) {
+            log.warn("Virtual thread pinned for {}ms at {}{}", event.getDuration().toMillis(), frame, format(stackTrace));
+        }
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임 (pinning 을 일으킨 라이브러리/애플리케이션 코드)
+     */
+    private static String culpritFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        stackTrace.getFrames().stream()
+                .limit(LOGGED_STACK_DEPTH)
+                .forEach(frame -> sb.append(System.lineSeparator()).append("\tat ")
+                        .append(frame.getMethod().getType().getName()).append('.')
+                        .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()));
+        return sb.toString();
+    }
+}
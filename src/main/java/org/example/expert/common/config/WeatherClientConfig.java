@@ -0,0 +1,119 @@
+package org.example.expert.common.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출용 HTTP 클라이언트, 서킷 브레이커, 벌크헤드 설정
+ */
+@Configuration
+public class WeatherClientConfig {
+
+    @Bean
+    public RestTemplate weatherRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${weather.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${weather.http.read-timeout:3s}") Duration readTimeout,
+            @Value("${weather.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${weather.http.max-connections:10}") int maxConnections
+    ) {
+        return createRestTemplate(builder, connectTimeout, readTimeout, connectionRequestTimeout, maxConnections);
+    }
+
+    @Bean
+    public CircuitBreakerRegistry weatherCircuitBreakerRegistry(
+            @Value("${weather.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${weather.circuit-breaker.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${weather.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState
+    ) {
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(slidingWindowSize, 5))
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .build());
+    }
+
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker(CircuitBreakerRegistry weatherCircuitBreakerRegistry) {
+        return weatherCircuitBreakerRegistry.circuitBreaker("weather");
+    }
+
+    @Bean
+    public BulkheadRegistry weatherBulkheadRegistry(
+            @Value("${weather.bulkhead.max-concurrent-calls:5}") int maxConcurrentCalls
+    ) {
+        // 동시 호출 수를 넘는 요청은 기다리지 않고 바로 실패시킵니다.
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Bean
+    public Bulkhead weatherBulkhead(BulkheadRegistry weatherBulkheadRegistry) {
+        return weatherBulkheadRegistry.bulkhead("weather");
+    }
+
+    // resilience4j_circuitbreaker_*, resilience4j_bulkhead_* 메트릭 등록
+    @Bean
+    public TaggedCircuitBreakerMetrics weatherCircuitBreakerMetrics(CircuitBreakerRegistry weatherCircuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(weatherCircuitBreakerRegistry);
+    }
+
+    @Bean
+    public TaggedBulkheadMetrics weatherBulkheadMetrics(BulkheadRegistry weatherBulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(weatherBulkheadRegistry);
+    }
+
+    /**
+     * keep-alive 커넥션 풀과 타임아웃이 설정된 RestTemplate 생성
+     */
+    public static RestTemplate createRestTemplate(RestTemplateBuilder builder,
+                                                  Duration connectTimeout,
+                                                  Duration readTimeout,
+                                                  Duration connectionRequestTimeout,
+                                                  int maxConnections) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * - nextCursor 는 다음 페이지 요청 시 그대로 넘기는 불투명한 값이며, 마지막 페이지면 null 입니다.
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
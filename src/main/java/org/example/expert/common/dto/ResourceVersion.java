@@ -0,0 +1,110 @@
+package org.example.expert.common.dto;
+
+import lombok.Getter;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 요청(ETag / Last-Modified) 용 리소스 버전
+ * - 응답 본문을 만들지 않고 인덱스만 읽는 가벼운 쿼리(수정 시각, 건수, 최대 id)나 목록 버전 카운터로 만듭니다.
+ * - 버전이 같으면 응답 본문도 같으므로 strong ETag 로 사용하며, 조건부 GET 과 If-Match 수정에 함께 씁니다.
+ * - 조건부 GET 은 버전을 먼저 읽어 헤더로 내보낸 뒤 본문을 만듭니다. 본문은 그 버전 이후의 상태일 수는 있어도
+ *   그 이전 상태여서는 안 되므로, 캐시나 영속성 컨텍스트에서 꺼낸 본문은 버전을 확인한 뒤 사용합니다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final String etag;
+
+    // epoch millis (수정 시각이 없는 리소스는 -1)
+    private final long lastModified;
+
+    public ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     * - 단건: (id, 낙관적 락 버전, 수정 시각)
+     * - 컬렉션: (건수, 최대 id, 최대 수정/생성 시각) - 삭제는 건수로, 추가/수정은 최대 시각으로 구분합니다.
+     *   (pooled id 는 인스턴스마다 다른 블록에서 발급되므로 최대 id 만으로는 추가를 구분할 수 없습니다)
+     */
+    public ResourceVersion(Long key, Long version, LocalDateTime modifiedAt) {
+        this(etag(key, version, toMicros(modifiedAt)), toMillis(modifiedAt));
+    }
+
+    /**
+     * 목록 버전 카운터(CollectionVersionCounter) 값으로 만드는 버전
+     * - 카운터는 수정 시각이 아니므로 Last-Modified 없이 ETag 로만 비교합니다.
+     */
+    public ResourceVersion(long counter) {
+        this(etag(counter), -1);
+    }
+
+    /**
+     * Last-Modified 없이 ETag 만 쓰는 버전
+     * - 삭제가 있는 컬렉션은 삭제해도 최대 시각이 그대로이므로, If-Modified-Since 로는 삭제를 알 수 없습니다.
+     */
+    public ResourceVersion withoutLastModified() {
+        return new ResourceVersion(etag, -1);
+    }
+
+    /**
+     * 요청의 If-None-Match / If-Modified-Since 와 비교
+     * - 일치하지 않아도 ETag, Last-Modified 응답 헤더는 설정됩니다.
+     *
+     * @return 일치하면 true (응답은 이미 304 로 설정되어 있으므로 본문 없이 반환하면 됩니다)
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return lastModified < 0 ? request.checkNotModified(etag) : request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * If-Match 헤더와 비교 (strong 비교이므로 W/ 로 시작하는 weak ETag 는 일치하지 않습니다)
+     */
+    public boolean matches(String ifMatch) {
+        if (isUnconditional(ifMatch)) {
+            return true;
+        }
+        for (String tag : ifMatch.split(",")) {
+            if (tag.trim().equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 가 없거나 * 이면 특정 버전을 요구하지 않는 요청입니다.
+     */
+    public static boolean isUnconditional(String ifMatch) {
+        return ifMatch == null || ifMatch.trim().equals("*");
+    }
+
+    private static String etag(Object... parts) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            sb.append(parts[i] == null ? 0 : parts[i]);
+        }
+        return sb.append('"').toString();
+    }
+
+    private static Long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
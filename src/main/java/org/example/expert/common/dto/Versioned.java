@@ -0,0 +1,20 @@
+package org.example.expert.common.dto;
+
+import lombok.Getter;
+
+/**
+ * 응답 본문과 그 본문을 만든 시점의 버전
+ * - 수정 응답: 컨트롤러는 version 으로 ETag / Last-Modified 헤더를 채워, 클라이언트가 다음 If-Match 에 그대로 쓸 수 있게 합니다.
+ * - 캐싱된 조회 응답: 본문이 어느 버전으로 만들어졌는지 확인하는 데 씁니다.
+ */
+@Getter
+public class Versioned<T> {
+
+    private final T body;
+    private final ResourceVersion version;
+
+    public Versioned(T body, ResourceVersion version) {
+        this.body = body;
+        this.version = version;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.common.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 조회 버전(ETag) 카운터
+ * - 2차 캐시에 올리지 않습니다. 증가는 JPQL 벌크 update 로 하므로 이 엔티티의 캐시 영역만 무효화됩니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "collection_versions")
+public class CollectionVersion {
+
+    @Id
+    private String name;
+
+    private long version;
+
+    public CollectionVersion(String name) {
+        this.name = name;
+    }
+}
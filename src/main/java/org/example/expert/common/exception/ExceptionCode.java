@@ -22,6 +22,7 @@ public enum ExceptionCode {
     NOT_FOUND_TOKEN(HttpStatus.NOT_FOUND, "NOT_FOUND_TOKEN", "토큰이 존재하지 않습니다."),
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_ACCESS_TOKEN", "유효하지 않은 액세스 토큰입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", "유효하지 않은 리프레시 토큰입니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     /**
      * User
@@ -36,6 +37,7 @@ public enum ExceptionCode {
      */
     NOT_FOUND_TODO(HttpStatus.NOT_FOUND, "NOT_FOUND_TODO", "일정이 존재하지 않습니다."),
     FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "FORBIDDEN_ACCESS","접근 권한이 없습니다."),
+    INVALID_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "INVALID_IMPORT_FORMAT", "가져오기 본문 형식이 올바르지 않습니다."),
 
     /**
      * Comment
@@ -56,9 +58,12 @@ public enum ExceptionCode {
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED_ACCESS","접근할 수 없는 사용자입니다."),
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED","입력 값이 유효하지 않습니다."),
     INVALID_DATE_FORMAT(HttpStatus.BAD_REQUEST, "INVALID_DATE_FORMAT","올바른 날짜 형식이 아닙니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR","유효하지 않은 커서입니다."),
     UPDATE_FAILED(HttpStatus.NOT_FOUND, "UPDATE_FAILED","데이터 변경에 실패했습니다."),
     DELETE_FAILED(HttpStatus.NOT_FOUND, "DELETE_FAILED","데이터 삭제에 실패했습니다."),
     NO_CHANGES(HttpStatus.NO_CONTENT, "NO_CHANGES","변경된 내용이 없습니다."),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "PRECONDITION_FAILED","다른 요청에 의해 이미 변경되었습니다. 다시 조회한 후 시도해주세요."),
+    UPDATE_CONFLICT(HttpStatus.CONFLICT, "UPDATE_CONFLICT","동시에 수정하는 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     RELOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "RELOAD_FAILED","데이터를 불러오는 데 실패했습니다."),
 
     /**
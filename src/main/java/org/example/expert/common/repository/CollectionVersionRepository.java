@@ -0,0 +1,29 @@
+package org.example.expert.common.repository;
+
+import org.example.expert.common.entity.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+
+    // 목록 버전 (PK 조회, 영속성 컨텍스트에 올리지 않습니다)
+    @Query("SELECT v.version FROM CollectionVersion v WHERE v.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    /**
+     * 목록 버전 1 증가
+     * - 목록을 바꾼 트랜잭션 안에서만 호출합니다. 행 락은 커밋까지 유지되므로 증가는 커밋 순서대로 일어납니다.
+     *
+     * @return 행이 없으면 0
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.version = v.version + 1 WHERE v.name = :name")
+    int increment(@Param("name") String name);
+}
@@ -0,0 +1,74 @@
+package org.example.expert.common.util;
+
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.entity.CollectionVersion;
+import org.example.expert.common.repository.CollectionVersionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목록 조회 버전(ETag) 카운터
+ * - 목록을 바꾸는 트랜잭션이 같은 트랜잭션 안에서 카운터 행을 증가시키고, 조건부 GET 은 카운터 값만 읽습니다.
+ * - 최대 id / 수정 시각은 커밋 전에 정해지므로, 늦게 커밋된 행이 이미 나간 버전보다 작은 값을 가지면 변경을 놓칩니다.
+ *   카운터는 행 락을 잡은 순서(= 커밋 순서)대로 증가하므로, 커밋된 변경은 항상 읽히는 버전을 바꿉니다.
+ */
+@Component
+public class CollectionVersionCounter {
+
+    // 일정 목록
+    public static final String TODOS = "todos";
+
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final TransactionTemplate newTransaction;
+
+    public CollectionVersionCounter(CollectionVersionRepository collectionVersionRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.collectionVersionRepository = collectionVersionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 일정별 댓글 목록
+    public static String comments(long todoId) {
+        return "comments:" + todoId;
+    }
+
+    /**
+     * 목록 버전 1 증가
+     * - 같은 목록을 바꾸는 트랜잭션은 이 행 락에서 차례로 기다리므로, 다른 쓰기를 모두 마친 뒤 커밋 직전에 호출합니다.
+     * - 쌓여 있는 변경을 먼저 flush 해 모든 트랜잭션이 변경한 행 -> 카운터 순서로 락을 잡게 합니다.
+     *   (커밋 시점에 delete 되는 행처럼 카운터보다 늦게 락을 잡으면, 그 행을 먼저 수정한 트랜잭션과 교착될 수 있습니다)
+     * - 행이 없으면 별도 트랜잭션으로 먼저 만듭니다. 락 없는 조회로 확인하는 이유는, 없는 행을 update 하면
+     *   MySQL 이 갭 락을 잡아 별도 트랜잭션의 insert 가 이 트랜잭션을 기다리게 되기 때문입니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(String name) {
+        collectionVersionRepository.flush();
+        if (!collectionVersionRepository.existsById(name)) {
+            create(name);
+        }
+        collectionVersionRepository.increment(name);
+    }
+
+    /**
+     * 목록 응답의 버전 (ETag 만 사용)
+     * - 아직 바뀐 적 없는 목록(행이 없음)은 0 입니다.
+     */
+    public ResourceVersion getVersion(String name) {
+        return new ResourceVersion(collectionVersionRepository.findVersion(name).orElse(0L));
+    }
+
+    private void create(String name) {
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    collectionVersionRepository.saveAndFlush(new CollectionVersion(name)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 만들었으면 그 행을 증가시킵니다.
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.common.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * thread-safe 하지 않은 객체(Mac, MessageDigest 등)를 빌려 쓰고 돌려놓는 풀
+ * - ThreadLocal 은 요청마다 새로 만들어지는 가상 스레드에서는 재사용되지 않으므로, 스레드 대신 풀에 보관합니다.
+ * - 보관 개수는 동시에 사용한 최대 개수로 자연히 제한되며, maxIdle 을 넘으면 돌려받지 않고 버립니다.
+ */
+final class InstancePool<T> {
+
+    private final Supplier<T> factory;
+    private final int maxIdle;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    InstancePool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * 풀에서 꺼낸 객체로 action 을 수행
+     * - action 이 예외를 던지면 객체 상태를 신뢰할 수 없으므로 돌려놓지 않습니다.
+     */
+    <R> R apply(Function<T, R> action) {
+        T instance = idle.poll();
+        if (instance != null) {
+            idleCount.decrementAndGet();
+        } else {
+            instance = factory.get();
+        }
+
+        R result = action.apply(instance);
+
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+        return result;
+    }
+}
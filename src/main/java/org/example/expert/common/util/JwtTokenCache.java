@@ -0,0 +1,164 @@
+package org.example.expert.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 JWT 를 만료 시각까지 보관하는 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트를 사용합니다.
+ * - Caffeine 캐시로 항목마다 토큰의 exp 에 만료되고, 최대 크기를 넘으면 사용 빈도가 낮은 토큰부터 제거됩니다.
+ *   (정리는 Caffeine 이 조회/저장 시 분할 상환 O(1) 로 처리하므로 요청 스레드에서 전체를 훑지 않습니다)
+ */
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+    private static final InstancePool<MessageDigest> SHA_256 = new InstancePool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }, 256);
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token Bearer 접두사를 제외한 compact JWS
+     * @return 검증 결과, 캐시에 없거나 만료된 경우 null
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(digest(token));
+
+        // Caffeine 의 만료 처리와 별개로, exp 가 지난 토큰은 벽시계 기준으로도 한 번 더 거릅니다.
+        if (verifiedToken == null || verifiedToken.isExpired(System.currentTimeMillis())) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return verifiedToken;
+    }
+
+    /**
+     * 검증된 claims 를 캐시에 저장
+     *
+     * @param token  Bearer 접두사를 제외한 compact JWS
+     * @param claims JwtUtil 로 검증을 마친 claims
+     * @return 저장된 검증 결과
+     */
+    public VerifiedToken put(String token, Claims claims) {
+        VerifiedToken verifiedToken = new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L
+        );
+
+        // 만료 시각이 없는 토큰은 언제 제거해야 할지 알 수 없으므로 캐싱하지 않습니다.
+        if (claims.getExpiration() == null || verifiedToken.isExpired(System.currentTimeMillis())) {
+            return verifiedToken;
+        }
+
+        cache.put(digest(token), verifiedToken);
+        return verifiedToken;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("jwt.cache.size", cache, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    private ByteBuffer digest(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.wrap(SHA_256.apply(sha256 -> sha256.digest(bytes)));
+    }
+
+    /**
+     * 항목별 만료 시간: 저장 시점부터 토큰의 exp 까지 (조회/갱신으로 연장되지 않음)
+     */
+    private static class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    @Getter
+    public static class VerifiedToken {
+
+        private final Long userId;
+        private final String email;
+        private final UserRole userRole;
+        private final long expiresAt;
+
+        public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAt) {
+            this.userId = userId;
+            this.email = email;
+            this.userRole = userRole;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.common.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,9 +14,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -24,29 +27,52 @@ public class JwtUtil {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
+    // 헤더는 항상 같으므로 한 번만 인코딩해 둡니다.
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String ENCODED_HEADER = BASE64_URL_ENCODER.encodeToString(
+            "{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // JwtParser 는 불변이고 thread-safe 하므로 재사용합니다.
+    private JwtParser jwtParser;
+
+    // Mac 은 thread-safe 하지 않으므로 풀에서 빌려 쓰고 돌려놓습니다.
+    private InstancePool<Mac> macPool;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        macPool = new InstancePool<>(this::createMac, 64);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
-
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        long now = System.currentTimeMillis();
+
+        StringBuilder payload = new StringBuilder(128)
+                .append("{\"sub\":\"").append(userId)
+                .append("\",\"email\":");
+        appendJsonString(payload, email);
+        payload.append(",\"userRole\":");
+        appendJsonString(payload, userRole == null ? null : userRole.name());
+        payload.append(",\"exp\":").append((now + TOKEN_TIME) / 1000)
+                .append(",\"iat\":").append(now / 1000) // 발급일
+                .append('}');
+
+        String signingInput = ENCODED_HEADER + '.'
+                + BASE64_URL_ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+
+        byte[] signingBytes = signingInput.getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = macPool.apply(mac -> mac.doFinal(signingBytes));
+
+        return BEARER_PREFIX + signingInput + '.' + BASE64_URL_ENCODER.encodeToString(signature);
     }
 
     public String substringToken(String tokenValue) {
@@ -57,10 +83,45 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(signatureAlgorithm.getJcaName()); // 암호화 알고리즘
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
 }
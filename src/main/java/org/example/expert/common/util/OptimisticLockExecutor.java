@@ -0,0 +1,77 @@
+package org.example.expert.common.util;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락으로 보호되는 수정을 트랜잭션 단위로 실행
+ * - action 은 매 시도마다 새 트랜잭션에서 조회부터 다시 수행하므로, 재시도 시 최신 버전 위에 변경을 다시 적용합니다.
+ * - OSIV 에서는 요청 내내 같은 EntityManager 를 쓰므로, 시도마다 영속성 컨텍스트를 비운 뒤 실행합니다.
+ *   (이미 올라와 있던 엔티티가 있으면 JPQL 조회도 DB 의 최신 행 대신 그 인스턴스를 돌려주기 때문입니다)
+ * - retryable 이 false 인 요청(If-Match 로 특정 버전을 요구)은 충돌 시 재시도하지 않고 412 로 응답합니다.
+ * - 재시도 전에는 충돌한 요청끼리 다시 부딪히지 않도록 무작위로 잠깐 기다립니다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    // 충돌 시 최대 시도 횟수 (첫 시도 포함)
+    private final int maxAttempts;
+
+    // 재시도 전 대기 시간 상한 (0 ~ backoffMillis 사이 무작위)
+    private final long backoffMillis;
+
+    public OptimisticLockExecutor(TransactionTemplate transactionTemplate,
+                                  EntityManager entityManager,
+                                  @Value("${optimistic-lock.max-attempts:5}") int maxAttempts,
+                                  @Value("${optimistic-lock.backoff-millis:20}") long backoffMillis) {
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    public <T> T execute(boolean retryable, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    entityManager.clear();
+                    return action.get();
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (!retryable) {
+                    throw new InvalidRequestException(ExceptionCode.PRECONDITION_FAILED);
+                }
+                if (attempt >= maxAttempts) {
+                    log.warn("Optimistic lock retries exhausted. attempts: {}, cause: {}", attempt, e.getMessage());
+                    throw new InvalidRequestException(ExceptionCode.UPDATE_CONFLICT);
+                }
+                backoff();
+            }
+        }
+    }
+
+    private void backoff() {
+        if (backoffMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException(ExceptionCode.UPDATE_CONFLICT);
+        }
+    }
+}
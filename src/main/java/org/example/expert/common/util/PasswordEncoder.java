@@ -1,20 +1,179 @@
 package org.example.expert.common.util;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.*;
+
+@Slf4j
 @Component
 public class PasswordEncoder {
 
-    // 암호화 강도 조절
-    private static final int COST = 12;
+    // 암호화 강도 조절 (기본값과 권장 강도 계산 범위)
+    private static final int DEFAULT_COST = 12;
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+    private static final int CALIBRATION_WARMUP = 3;
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    // 해싱 강도, 모든 인스턴스가 같은 값을 쓰도록 설정으로 고정합니다. (0 이하면 DEFAULT_COST)
+    @Value("${password.hashing.cost:0}")
+    private int configuredCost;
+
+    // 시작 시 이 장비에서 target-millis 에 맞는 강도를 측정해 로그로 권장합니다. (적용은 하지 않음)
+    @Value("${password.hashing.calibrate:true}")
+    private boolean calibrate;
+
+    // 권장 강도 계산 시 해싱 1회에 목표로 하는 시간
+    @Value("${password.hashing.target-millis:250}")
+    private long targetMillis;
+
+    private volatile int cost = DEFAULT_COST;
+
+    // BCrypt 전용 스레드 수 (0 이하면 CPU 코어 수의 절반)
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    // 대기열 크기, 가득 차면 즉시 503 을 반환합니다.
+    @Value("${password.hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor hashingExecutor;
+
+    @PostConstruct
+    public void init() {
+        cost = configuredCost > 0 ? configuredCost : DEFAULT_COST;
+        if (calibrate) {
+            logRecommendedCost();
+        }
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+
+        hashingExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("Password hashing pool started. cost: {}, threads: {}, queueCapacity: {}", cost, poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdown();
+        }
+    }
 
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return execute(() -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 저장된 해시의 강도가 현재 강도와 다른지 확인
+     * - 강도는 설정(password.hashing.cost)으로 모든 인스턴스에 같게 고정하므로, 낮춘 경우에도 로그인 시 다시 해싱해
+     *   줄어든 검증 시간이 기존 사용자에게도 적용되도록 합니다.
+     *
+     * @param encodedPassword BCrypt 해시 문자열 (예: $2a$12$...)
+     * @return 다시 해싱해야 하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+
+        try {
+            int storedCost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return storedCost != cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 현재 하드웨어에서 targetMillis 를 넘지 않는 가장 높은 강도를 계산해 로그로 남김
+     * - 강도가 1 오를 때마다 해싱 시간이 2배가 되므로 MIN_COST 에서 측정해 추정합니다.
+     * - 기동 직후 JIT 전 측정값은 느리게 나오므로 먼저 워밍업하고, 측정값 중 최솟값을 씁니다.
+     * - 측정값은 장비와 부하에 따라 흔들리므로 적용하지 않고, password.hashing.cost 를 정할 때 참고용으로만 씁니다.
+     */
+    private void logRecommendedCost() {
+        char[] sample = "calibration-password".toCharArray();
+
+        for (int i = 0; i < CALIBRATION_WARMUP; i++) {
+            BCrypt.withDefaults().hash(MIN_COST, sample);
+        }
+
+        long elapsedNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(MIN_COST, sample);
+            elapsedNanos = Math.min(elapsedNanos, System.nanoTime() - start);
+        }
+
+        double elapsedMillis = Math.max(elapsedNanos / 1_000_000.0, 0.001);
+        int recommendedCost = MIN_COST + (int) Math.floor(Math.log(targetMillis / elapsedMillis) / Math.log(2));
+        recommendedCost = Math.max(MIN_COST, Math.min(MAX_COST, recommendedCost));
+
+        if (recommendedCost != cost) {
+            log.info("Password hashing cost {} is in use. cost {} would fit the {}ms target on this host (cost {} took {}ms)",
+                    cost, recommendedCost, targetMillis, MIN_COST, String.format("%.1f", elapsedMillis));
+        }
+    }
+
+    /**
+     * BCrypt 연산을 전용 스레드 풀에서 수행
+     * - 해싱이 톰캣 워커 스레드의 CPU 를 점유하지 않도록 풀 크기만큼만 동시에 수행합니다.
+     * - 가상 스레드 모드에서도 호출한 가상 스레드는 future.get() 에서 park 되므로, CPU 를 오래 쓰는 해싱이 캐리어 스레드를 붙잡지 않습니다.
+     * - 스프링 컨테이너 밖에서 생성된 경우(init 미호출) 호출 스레드에서 바로 수행합니다.
+     */
+    private <T> T execute(Callable<T> task) {
+        if (hashingExecutor == null) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServerException(ExceptionCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException(ExceptionCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 }
@@ -14,6 +14,7 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -47,7 +48,12 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인
+     * - BCrypt 검증/재해싱이 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 수행합니다.
+     *   (조회와 재해싱 결과 저장은 각각 짧은 트랜잭션으로 실행됩니다)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException(ExceptionCode.NOT_FOUND_USER));
@@ -57,6 +63,12 @@ public class AuthService {
             throw new AuthException(ExceptionCode.LOGIN_FAILED);
         }
 
+        // 저장된 해시의 강도가 현재 강도와 다르면 로그인 시 다시 해싱해 저장합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            String rehashedPassword = passwordEncoder.encode(signinRequest.getPassword());
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashedPassword);
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
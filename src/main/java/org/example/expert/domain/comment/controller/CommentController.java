@@ -1,16 +1,30 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.common.annotation.Auth;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.Versioned;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -18,6 +32,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +43,70 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    /**
+     * 댓글 수정
+     * - If-Match 에 이전 수정 응답의 ETag 를 넣으면 그 사이 다른 수정이 있었을 때 412 를 반환합니다.
+     */
+    @PatchMapping("/todos/{todoId}/comments/{commentId}")
+    public ResponseEntity<CommentResponse> updateComment(
+            @Auth AuthUser authUser,
+            @PathVariable("todoId") long todoId,
+            @PathVariable("commentId") long commentId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CommentUpdateRequest commentUpdateRequest
+    ) {
+        Versioned<CommentResponse> updated = commentService.updateComment(authUser, todoId, commentId, ifMatch, commentUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(updated.getVersion().getEtag())
+                .lastModified(updated.getVersion().getLastModified())
+                .body(updated.getBody());
+    }
+
+    /**
+     * 댓글 목록 조회
+     * - If-None-Match 가 현재 버전과 같으면 목록을 조회하지 않고 304 를 반환합니다.
+     */
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable("todoId") long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable("todoId") long todoId, WebRequest webRequest) {
+        if (commentService.getCommentsVersion(todoId).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    /**
+     * 커서 기반 댓글 목록 조회
+     * - cursor 파라미터가 있으면 이 핸들러로 매핑됩니다. 첫 페이지는 cursor= (빈 값) 으로 요청합니다.
+     */
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable("todoId") long todoId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    /**
+     * 댓글 전체 스트리밍 조회 (Accept: application/x-ndjson)
+     * - 한 줄에 댓글 하나씩, DB 에서 읽는 대로 응답에 씁니다.
+     */
+    @GetMapping(value = "/todos/{todoId}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamComments(@PathVariable("todoId") long todoId, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        OutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        commentService.streamComments(todoId, comment -> {
+            try {
+                writer.writeValue(out, comment);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
 }
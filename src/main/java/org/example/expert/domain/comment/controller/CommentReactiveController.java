@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentReactiveService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 논블로킹 댓글 조회 API
+ * - 기본(application/json)은 JSON 배열로, Accept: application/x-ndjson 이면 DB 에서 읽는 대로 한 줄씩 응답합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class CommentReactiveController {
+
+    private final CommentReactiveService commentReactiveService;
+
+    @GetMapping("/reactive/todos/{todoId}/comments")
+    public Flux<CommentResponse> getComments(@PathVariable("todoId") long todoId) {
+        return commentReactiveService.getComments(todoId);
+    }
+}
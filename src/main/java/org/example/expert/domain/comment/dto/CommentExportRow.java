@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+/**
+ * 일정 내보내기용 댓글 행 (일정 id 순 병합에 사용)
+ */
+@Getter
+public class CommentExportRow {
+
+    private final Long todoId;
+    private final CommentResponse comment;
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     */
+    public CommentExportRow(Long todoId, Long id, String contents, Long userId, String userEmail) {
+        this.todoId = todoId;
+        this.comment = new CommentResponse(id, contents, userId, userEmail);
+    }
+}
@@ -15,4 +15,11 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     */
+    public CommentResponse(Long id, String contents, Long userId, String userEmail) {
+        this(id, contents, new UserResponse(userId, userEmail));
+    }
 }
@@ -10,11 +10,23 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 50개씩 미리 할당받는 테이블 생성기를 사용합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = "id_generators",
+            pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "comments",
+            allocationSize = 50)
     private Long id;
+
+    // 낙관적 락 버전 (수정 시 UPDATE ... WHERE version = ? 으로 동시 수정을 감지합니다)
+    @Version
+    private Long version;
+
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
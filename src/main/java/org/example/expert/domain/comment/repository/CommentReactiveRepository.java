@@ -0,0 +1,33 @@
+package org.example.expert.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 댓글 논블로킹 조회 (R2DBC)
+ * - 작성자는 id, email 만 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentReactiveRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // (todo_id, id) 인덱스 순서로 읽습니다.
+    public Flux<CommentResponse> findCommentResponsesByTodoId(long todoId) {
+        return databaseClient.sql("SELECT c.id, c.contents, u.id AS user_id, u.email " +
+                        "FROM comments c JOIN users u ON u.id = c.user_id " +
+                        "WHERE c.todo_id = :todoId " +
+                        "ORDER BY c.id")
+                .bind("todoId", todoId)
+                .map(row -> new CommentResponse(
+                        row.get("id", Long.class),
+                        row.get("contents", String.class),
+                        row.get("user_id", Long.class),
+                        row.get("email", String.class)))
+                .all();
+    }
+}
@@ -1,14 +1,70 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.domain.comment.dto.CommentExportRow;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 작성자는 id, email 만 조회합니다. (password 등 나머지 컬럼은 읽지 않음)
+    String COMMENT_RESPONSE_SELECT = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u ";
+
+    // 스트리밍 조회 시 한 번에 가져올 행 수
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query(COMMENT_RESPONSE_SELECT +
+            "WHERE c.todo.id = :todoId")
+    List<CommentResponse> findCommentResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 댓글 단건의 버전(ETag) (PK 조회)
+    @Query("SELECT new org.example.expert.common.dto.ResourceVersion(c.id, c.version, c.modifiedAt) " +
+            "FROM Comment c WHERE c.id = :commentId")
+    Optional<ResourceVersion> findVersionById(@Param("commentId") Long commentId);
+
+    /**
+     * 커서 기반 댓글 조회 (id 오름차순)
+     * - (todo_id, id) 인덱스로 afterId 다음 행부터 바로 찾습니다.
+     */
+    @Query(COMMENT_RESPONSE_SELECT +
+            "WHERE c.todo.id = :todoId AND c.id > :afterId " +
+            "ORDER BY c.id")
+    List<CommentResponse> findCommentResponsesAfter(@Param("todoId") Long todoId,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    /**
+     * 댓글 스트리밍 조회 (id 오름차순)
+     * - 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽습니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     * - MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 가 적용됩니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(COMMENT_RESPONSE_SELECT +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.id")
+    Stream<CommentResponse> streamCommentResponsesByTodoId(@Param("todoId") Long todoId);
+
+    /**
+     * 전체 댓글 스트리밍 조회 (일정 id, 댓글 id 오름차순, 내보내기용)
+     * - (todo_id, id) 인덱스 순서 그대로 읽습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentExportRow(" +
+            "c.todo.id, c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "ORDER BY c.todo.id, c.id")
+    Stream<CommentExportRow> streamCommentExportRows();
 }
@@ -3,6 +3,8 @@ package org.example.expert.domain.comment.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,12 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final CollectionVersionCounter collectionVersionCounter;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.findById(commentId)
+        Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_COMMENT));
 
         commentRepository.deleteById(commentId);
+        collectionVersionCounter.increment(CollectionVersionCounter.comments(comment.getTodo().getId()));
     }
 }
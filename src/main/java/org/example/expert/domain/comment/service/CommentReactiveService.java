@@ -0,0 +1,21 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentReactiveRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 댓글 논블로킹 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentReactiveService {
+
+    private final CommentReactiveRepository commentReactiveRepository;
+
+    public Flux<CommentResponse> getComments(long todoId) {
+        return commentReactiveRepository.findCommentResponsesByTodoId(todoId);
+    }
+}
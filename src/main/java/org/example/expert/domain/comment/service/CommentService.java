@@ -2,29 +2,44 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
 import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.OptimisticLockExecutor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final OptimisticLockExecutor optimisticLockExecutor;
+    private final CollectionVersionCounter collectionVersionCounter;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -40,6 +55,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        collectionVersionCounter.increment(CollectionVersionCounter.comments(todoId));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -48,20 +64,98 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    /**
+     * 댓글 수정 (작성자만 가능)
+     * - If-Match 가 있으면 그 버전일 때만 수정하고, 다르거나 커밋 시점에 충돌하면 412 를 반환합니다.
+     * - If-Match 가 없으면 내용을 덮어쓰는 변경이므로, 충돌 시 최신 상태를 다시 읽어 재적용합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Versioned<CommentResponse> updateComment(AuthUser authUser, long todoId, long commentId, String ifMatch,
+                                                    CommentUpdateRequest commentUpdateRequest) {
+        return optimisticLockExecutor.execute(ResourceVersion.isUnconditional(ifMatch), () -> {
+            Comment comment = commentRepository.findById(commentId)
+                    .filter(found -> ObjectUtils.nullSafeEquals(found.getTodo().getId(), todoId))
+                    .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_COMMENT));
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
+            if (!ObjectUtils.nullSafeEquals(comment.getUser().getId(), authUser.getId())) {
+                throw new InvalidRequestException(ExceptionCode.FORBIDDEN_ACCESS);
+            }
+            if (!new ResourceVersion(comment.getId(), comment.getVersion(), comment.getModifiedAt()).matches(ifMatch)) {
+                throw new InvalidRequestException(ExceptionCode.PRECONDITION_FAILED);
+            }
+
+            comment.update(commentUpdateRequest.getContents());
+            // 응답의 ETag 가 이후 If-Match 와 같도록, 반영 후 DB 에 저장된 버전과 수정 시각으로 만듭니다.
+            commentRepository.flush();
+            ResourceVersion version = commentRepository.findVersionById(commentId)
+                    .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_COMMENT));
+            collectionVersionCounter.increment(CollectionVersionCounter.comments(todoId));
+
+            CommentResponse response = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    new UserResponse(authUser.getId(), authUser.getEmail())
             );
-            dtoList.add(dto);
+            return new Versioned<>(response, version);
+        });
+    }
+
+    /**
+     * 댓글 목록 응답의 버전 (조건부 GET 용)
+     * - 댓글을 추가/수정/삭제하는 트랜잭션이 올리는 카운터이므로, 늦게 커밋된 변경도 놓치지 않습니다.
+     */
+    public ResourceVersion getCommentsVersion(long todoId) {
+        return collectionVersionCounter.getVersion(CollectionVersionCounter.comments(todoId));
+    }
+
+    /**
+     * 댓글 목록 조회
+     * - 엔티티 대신 필요한 컬럼만 CommentResponse 로 바로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getComments(long todoId) {
+        return commentRepository.findCommentResponsesByTodoId(todoId);
+    }
+
+    /**
+     * 커서 기반 댓글 목록 조회 (id 오름차순)
+     * - size + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다.
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException(ExceptionCode.VALIDATION_FAILED);
+        }
+        int pageSize = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+
+        long afterId = 0L;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException(ExceptionCode.INVALID_CURSOR);
+            }
+        }
+
+        List<CommentResponse> comments = commentRepository.findCommentResponsesAfter(todoId, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentResponse> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+
+        return new CursorResponse<>(page, nextCursor);
+    }
+
+    /**
+     * 댓글 전체를 한 건씩 consumer 로 전달
+     * - DB 커서에서 읽는 대로 넘기므로 댓글 수와 무관하게 메모리 사용량이 일정합니다.
+     */
+    @Transactional(readOnly = true)
+    public void streamComments(long todoId, Consumer<CommentResponse> consumer) {
+        try (Stream<CommentResponse> comments = commentRepository.streamCommentResponsesByTodoId(todoId)) {
+            comments.forEach(consumer);
         }
-        return dtoList;
     }
 }
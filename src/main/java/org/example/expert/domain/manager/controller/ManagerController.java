@@ -6,14 +6,19 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.common.util.JwtUtil;
 import org.example.expert.common.annotation.Auth;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,8 +36,25 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/managers/bulk")
+    public ResponseEntity<ManagerBulkSaveResponse> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable("todoId") long todoId,
+            @Valid @RequestBody ManagerBulkSaveRequest managerBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBulkSaveRequest));
+    }
+
+    /**
+     * 담당자 목록 조회
+     * - If-None-Match 가 현재 버전과 같으면 목록을 조회하지 않고 304 를 반환합니다.
+     */
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable("todoId") long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable("todoId") long todoId, WebRequest webRequest) {
+        Optional<ResourceVersion> version = managerService.getManagersVersion(todoId);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
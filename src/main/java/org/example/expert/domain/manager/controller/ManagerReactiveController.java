@@ -0,0 +1,24 @@
+package org.example.expert.domain.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.service.ManagerReactiveService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 논블로킹 담당자 조회 API
+ */
+@RestController
+@RequiredArgsConstructor
+public class ManagerReactiveController {
+
+    private final ManagerReactiveService managerReactiveService;
+
+    @GetMapping("/reactive/todos/{todoId}/managers")
+    public Flux<ManagerResponse> getMembers(@PathVariable("todoId") long todoId) {
+        return managerReactiveService.getManagers(todoId);
+    }
+}
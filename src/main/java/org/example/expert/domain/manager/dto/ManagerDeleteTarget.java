@@ -0,0 +1,23 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 담당자 삭제 검증용 조회 결과 (요청 유저, 일정 작성자, 삭제할 담당자)
+ * - 요청 유저나 담당자가 없으면 해당 id 가 null 입니다.
+ */
+@Getter
+public class ManagerDeleteTarget {
+
+    private final Long userId;
+    private final Long todoUserId;
+    private final Long managerId;
+    private final Long managerTodoId;
+
+    public ManagerDeleteTarget(Long userId, Long todoUserId, Long managerId, Long managerTodoId) {
+        this.userId = userId;
+        this.todoUserId = todoUserId;
+        this.managerId = managerId;
+        this.managerTodoId = managerTodoId;
+    }
+}
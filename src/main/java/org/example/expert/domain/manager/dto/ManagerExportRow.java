@@ -0,0 +1,22 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+/**
+ * 일정 내보내기용 담당자 행 (일정 id 순 병합에 사용)
+ */
+@Getter
+public class ManagerExportRow {
+
+    private final Long todoId;
+    private final ManagerResponse manager;
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     */
+    public ManagerExportRow(Long todoId, Long id, Long userId, String userEmail) {
+        this.todoId = todoId;
+        this.manager = new ManagerResponse(id, userId, userEmail);
+    }
+}
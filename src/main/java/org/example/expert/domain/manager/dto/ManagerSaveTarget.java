@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 담당자 등록 검증용 조회 결과 (일정 작성자 id + 등록할 유저)
+ * - 등록할 유저가 없으면 managerUserId 가 null 입니다.
+ */
+@Getter
+public class ManagerSaveTarget {
+
+    private final Long todoUserId;
+    private final Long managerUserId;
+    private final String managerUserEmail;
+
+    public ManagerSaveTarget(Long todoUserId, Long managerUserId, String managerUserEmail) {
+        this.todoUserId = todoUserId;
+        this.managerUserId = managerUserId;
+        this.managerUserEmail = managerUserEmail;
+    }
+}
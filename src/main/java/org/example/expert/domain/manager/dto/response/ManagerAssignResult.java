@@ -0,0 +1,29 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+/**
+ * 담당자 일괄 등록 결과 (요청한 유저 id 하나당 하나)
+ * - ASSIGNED 인 경우에만 id(담당자 id)와 user 가 채워집니다.
+ */
+@Getter
+public class ManagerAssignResult {
+
+    private final Long managerUserId;
+    private final ManagerAssignStatus status;
+    private final Long id;
+    private final UserResponse user;
+
+    public ManagerAssignResult(Long managerUserId, ManagerAssignStatus status, Long id, UserResponse user) {
+        this.managerUserId = managerUserId;
+        this.status = status;
+        this.id = id;
+        this.user = user;
+    }
+
+    public static ManagerAssignResult rejected(Long managerUserId, ManagerAssignStatus status) {
+        return new ManagerAssignResult(managerUserId, status, null, null);
+    }
+}
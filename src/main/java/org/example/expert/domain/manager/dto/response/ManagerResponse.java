@@ -13,4 +13,11 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     */
+    public ManagerResponse(Long id, Long userId, String userEmail) {
+        this(id, new UserResponse(userId, userEmail));
+    }
 }
@@ -5,14 +5,26 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_todo_id_user_id", columnList = "todo_id, user_id")
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 50개씩 미리 할당받는 테이블 생성기를 사용합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id_generator")
+    @TableGenerator(name = "manager_id_generator", table = "id_generators",
+            pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "managers",
+            allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +34,11 @@ public class Manager {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    // 담당자 목록 버전(ETag) 용 등록 시각
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
     public Manager(User user, Todo todo) {
         this.user = user;
         this.todo = todo;
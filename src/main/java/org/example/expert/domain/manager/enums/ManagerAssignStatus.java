@@ -0,0 +1,12 @@
+package org.example.expert.domain.manager.enums;
+
+/**
+ * 담당자 일괄 등록 시 id 별 처리 결과
+ */
+public enum ManagerAssignStatus {
+    ASSIGNED,             // 등록됨
+    USER_NOT_FOUND,       // 존재하지 않는 유저
+    SELF_ASSIGNMENT,      // 일정 작성자 본인
+    ALREADY_ASSIGNED,     // 이미 담당자로 등록된 유저
+    DUPLICATE_IN_REQUEST  // 요청 안에서 앞에 나온 id 와 중복
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 담당자 논블로킹 조회 (R2DBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManagerReactiveRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 일정 기준 LEFT JOIN 으로 일정 존재 여부와 담당자 목록을 한 번에 조회
+     * - 일정이 없으면 빈 결과, 담당자가 없는 일정은 id 가 null 인 행 하나가 조회됩니다.
+     */
+    public Flux<ManagerResponse> findManagerResponsesFromTodo(long todoId) {
+        return databaseClient.sql("SELECT m.id, u.id AS user_id, u.email " +
+                        "FROM todos t " +
+                        "LEFT JOIN managers m ON m.todo_id = t.id " +
+                        "LEFT JOIN users u ON u.id = m.user_id " +
+                        "WHERE t.id = :todoId " +
+                        "ORDER BY m.id")
+                .bind("todoId", todoId)
+                .map(row -> new ManagerResponse(
+                        row.get("id", Long.class),
+                        row.get("user_id", Long.class),
+                        row.get("email", String.class)))
+                .all();
+    }
+}
@@ -1,13 +1,100 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.domain.manager.dto.ManagerDeleteTarget;
+import org.example.expert.domain.manager.dto.ManagerExportRow;
+import org.example.expert.domain.manager.dto.ManagerSaveTarget;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 스트리밍 조회 시 한 번에 가져올 행 수
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * 일정 기준 담당자 목록 조회 (한 번의 쿼리)
+     * - 일정에서 담당자로 LEFT JOIN 하므로 일정이 없으면 빈 리스트,
+     *   담당자가 없으면 id 가 null 인 행 하나가 반환됩니다.
+     * - 담당자는 id, email 만 조회합니다. (password 등 나머지 컬럼은 읽지 않음)
+     */
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN t.managers m LEFT JOIN m.user u " +
+            "WHERE t.id = :todoId")
+    List<ManagerResponse> findManagerResponsesFromTodo(@Param("todoId") Long todoId);
+
+    /**
+     * 담당자 목록 응답의 버전(ETag)
+     * - 담당자는 수정되지 않으므로 건수, 최대 id, 최대 생성 시각을 사용합니다. 일정이 없으면 empty 입니다.
+     * - 삭제와 함께 더 작은 id 로 추가되어 건수와 최대 id 가 그대로여도, 새 담당자의 생성 시각으로 버전이 바뀝니다.
+     */
+    @Query("SELECT new org.example.expert.common.dto.ResourceVersion(COUNT(m), MAX(m.id), MAX(m.createdAt)) " +
+            "FROM Todo t LEFT JOIN t.managers m " +
+            "WHERE t.id = :todoId " +
+            "GROUP BY t.id")
+    Optional<ResourceVersion> findManagersVersion(@Param("todoId") Long todoId);
+
+    // 일정에 이미 담당자로 등록된 유저 id 중 userIds 에 포함된 것
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findAssignedUserIds(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 담당자 등록에 필요한 일정 작성자와 등록할 유저를 한 번에 조회
+     * - 일정이 없으면 empty 입니다.
+     */
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerSaveTarget(t.user.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN User u ON u.id = :managerUserId " +
+            "WHERE t.id = :todoId")
+    Optional<ManagerSaveTarget> findSaveTarget(@Param("todoId") Long todoId,
+                                               @Param("managerUserId") Long managerUserId);
+
+    /**
+     * 담당자 삭제 실패 원인 확인용으로 요청 유저, 일정 작성자, 담당자를 한 번에 조회
+     * - 일정이 없으면 empty 입니다.
+     */
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerDeleteTarget(u.id, t.user.id, m.id, m.todo.id) " +
+            "FROM Todo t " +
+            "LEFT JOIN User u ON u.id = :userId " +
+            "LEFT JOIN Manager m ON m.id = :managerId " +
+            "WHERE t.id = :todoId")
+    Optional<ManagerDeleteTarget> findDeleteTarget(@Param("userId") Long userId,
+                                                   @Param("todoId") Long todoId,
+                                                   @Param("managerId") Long managerId);
+
+    /**
+     * 권한 확인과 삭제를 한 문장으로 수행
+     * - 담당자가 해당 일정 소속이고, 일정 작성자가 요청 유저일 때만 삭제됩니다.
+     *
+     * @return 삭제된 행 수 (조건을 만족하지 않으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM Manager m " +
+            "WHERE m.id = :managerId " +
+            "AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteIfOwnedBy(@Param("userId") Long userId,
+                        @Param("todoId") Long todoId,
+                        @Param("managerId") Long managerId);
+
+    /**
+     * 전체 담당자 스트리밍 조회 (일정 id, 담당자 id 오름차순, 내보내기용)
+     * - 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽습니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerExportRow(m.todo.id, m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u " +
+            "ORDER BY m.todo.id, m.id")
+    Stream<ManagerExportRow> streamManagerExportRows();
 }
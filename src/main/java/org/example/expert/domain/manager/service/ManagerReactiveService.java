@@ -0,0 +1,29 @@
+package org.example.expert.domain.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerReactiveRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 담당자 논블로킹 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class ManagerReactiveService {
+
+    private final ManagerReactiveRepository managerReactiveRepository;
+
+    /**
+     * 담당자 목록 조회
+     * - ManagerService.getManagers 와 같이 일정이 없으면 NOT_FOUND_TODO, 담당자가 없으면 빈 목록입니다.
+     */
+    public Flux<ManagerResponse> getManagers(long todoId) {
+        return managerReactiveRepository.findManagerResponsesFromTodo(todoId)
+                .switchIfEmpty(Flux.error(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO)))
+                .filter(row -> row.getId() != null);
+    }
+}
@@ -2,12 +2,19 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.ResourceVersion;
 import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagerDeleteTarget;
+import org.example.expert.domain.manager.dto.ManagerSaveTarget;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerAssignResult;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -19,7 +26,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,70 +42,169 @@ public class ManagerService {
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
 
+    /**
+     * 담당자 등록
+     * - 일정 작성자와 등록할 유저를 한 번의 쿼리로 확인하고, 엔티티는 참조(프록시)만 사용해 insert 합니다.
+     */
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        ManagerSaveTarget target = managerRepository.findSaveTarget(todoId, managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (target.getTodoUserId() == null || !ObjectUtils.nullSafeEquals(user.getId(), target.getTodoUserId())) {
             throw new InvalidRequestException(ExceptionCode.INVALID_WRITER_USER);
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException(ExceptionCode.MANAGER_USER_NOT_FOUND));
+        if (target.getManagerUserId() == null) {
+            throw new InvalidRequestException(ExceptionCode.MANAGER_USER_NOT_FOUND);
+        }
 
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        if (ObjectUtils.nullSafeEquals(user.getId(), target.getManagerUserId())) {
             throw new InvalidRequestException(ExceptionCode.CANNOT_ASSIGN_SELF_AS_MANAGER);
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        Manager newManagerUser = new Manager(
+                userRepository.getReferenceById(target.getManagerUserId()),
+                todoRepository.getReferenceById(todoId)
+        );
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
+                new UserResponse(target.getManagerUserId(), target.getManagerUserEmail())
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
+    /**
+     * 담당자 일괄 등록
+     * - 일정 작성자 확인, 유저 존재 확인(IN), 기존 담당자 확인(IN) 후 가능한 유저만 insert 합니다.
+     * - insert 는 커밋 시 hibernate.jdbc.batch_size 단위 JDBC 배치로 전송됩니다.
+     * - 요청한 id 마다 처리 결과를 요청 순서대로 돌려주며, 전체가 하나의 트랜잭션입니다.
+     */
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        Long todoUserId = todoRepository.findUserIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todoUserId)) {
+            throw new InvalidRequestException(ExceptionCode.INVALID_WRITER_USER);
+        }
+
+        List<Long> requestedIds = managerBulkSaveRequest.getManagerUserIds();
+        Set<Long> distinctIds = new LinkedHashSet<>(requestedIds);
+
+        Map<Long, UserResponse> users = new HashMap<>();
+        for (UserResponse userResponse : userRepository.findUserResponsesByIdIn(distinctIds)) {
+            users.put(userResponse.getId(), userResponse);
+        }
+        Set<Long> assignedIds = new HashSet<>(managerRepository.findAssignedUserIds(todoId, distinctIds));
+
+        // 요청 순서대로 상태를 정하고, 등록 가능한 id 만 모읍니다.
+        ManagerAssignStatus[] statuses = new ManagerAssignStatus[requestedIds.size()];
+        List<Long> insertIds = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < requestedIds.size(); i++) {
+            Long managerUserId = requestedIds.get(i);
+            if (!seen.add(managerUserId)) {
+                statuses[i] = ManagerAssignStatus.DUPLICATE_IN_REQUEST;
+            } else if (!users.containsKey(managerUserId)) {
+                statuses[i] = ManagerAssignStatus.USER_NOT_FOUND;
+            } else if (ObjectUtils.nullSafeEquals(todoUserId, managerUserId)) {
+                statuses[i] = ManagerAssignStatus.SELF_ASSIGNMENT;
+            } else if (assignedIds.contains(managerUserId)) {
+                statuses[i] = ManagerAssignStatus.ALREADY_ASSIGNED;
+            } else {
+                statuses[i] = ManagerAssignStatus.ASSIGNED;
+                insertIds.add(managerUserId);
+            }
+        }
+
+        Todo todo = todoRepository.getReferenceById(todoId);
+        List<Manager> managers = managerRepository.saveAll(insertIds.stream()
+                .map(managerUserId -> new Manager(userRepository.getReferenceById(managerUserId), todo))
+                .toList());
+
+        List<ManagerAssignResult> results = new ArrayList<>(requestedIds.size());
+        int inserted = 0;
+        for (int i = 0; i < requestedIds.size(); i++) {
+            Long managerUserId = requestedIds.get(i);
+            if (statuses[i] == ManagerAssignStatus.ASSIGNED) {
+                results.add(new ManagerAssignResult(managerUserId, statuses[i], managers.get(inserted++).getId(), users.get(managerUserId)));
+            } else {
+                results.add(ManagerAssignResult.rejected(managerUserId, statuses[i]));
+            }
+        }
+        return new ManagerBulkSaveResponse(results);
+    }
+
+    /**
+     * 담당자 목록 응답의 버전 (조건부 GET 용)
+     * - 담당자는 삭제되므로 Last-Modified 없이 ETag 로만 비교합니다.
+     *
+     * @return 일정이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getManagersVersion(long todoId) {
+        return managerRepository.findManagersVersion(todoId).map(ResourceVersion::withoutLastModified);
+    }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+    /**
+     * 담당자 목록 조회
+     * - 일정 존재 여부와 담당자 목록을 한 번의 쿼리로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ManagerResponse> getManagers(long todoId) {
+        List<ManagerResponse> rows = managerRepository.findManagerResponsesFromTodo(todoId);
+        if (rows.isEmpty()) {
+            throw new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO);
         }
-        return dtoList;
+
+        // 담당자가 없는 일정은 id 가 null 인 행 하나만 조회됩니다.
+        return rows.stream()
+                .filter(row -> row.getId() != null)
+                .toList();
     }
 
+    /**
+     * 담당자 삭제
+     * - 권한 확인(일정 작성자 = 요청 유저, 담당자 소속 일정)과 삭제를 DELETE 한 문장으로 처리합니다.
+     * - 삭제된 행이 없을 때만 원인을 한 번 더 조회해 기존 예외 코드로 변환합니다.
+     */
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_USER));
+        if (managerRepository.deleteIfOwnedBy(userId, todoId, managerId) > 0) {
+            return;
+        }
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
+        throw new InvalidRequestException(diagnoseDeleteFailure(userId, todoId, managerId));
+    }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException(ExceptionCode.INVALID_WRITER_USER);
+    private ExceptionCode diagnoseDeleteFailure(long userId, long todoId, long managerId) {
+        ManagerDeleteTarget target = managerRepository.findDeleteTarget(userId, todoId, managerId).orElse(null);
+
+        if (target == null) {
+            return ExceptionCode.NOT_FOUND_TODO;
+        }
+
+        if (target.getUserId() == null) {
+            return ExceptionCode.NOT_FOUND_USER;
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException(ExceptionCode.MANAGER_USER_NOT_FOUND));
+        if (target.getTodoUserId() == null || !ObjectUtils.nullSafeEquals(userId, target.getTodoUserId())) {
+            return ExceptionCode.INVALID_WRITER_USER;
+        }
+
+        if (target.getManagerId() == null) {
+            return ExceptionCode.MANAGER_USER_NOT_FOUND;
+        }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException(ExceptionCode.NOT_ASSIGNED_TO_TODO);
+        if (!ObjectUtils.nullSafeEquals(todoId, target.getManagerTodoId())) {
+            return ExceptionCode.NOT_ASSIGNED_TO_TODO;
         }
 
-        managerRepository.delete(manager);
+        // 그 사이 다른 요청이 먼저 삭제한 경우
+        return ExceptionCode.MANAGER_USER_NOT_FOUND;
     }
 }
@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.common.annotation.AdminLoggingTarget;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoExportService todoExportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 일정 내보내기 (댓글, 담당자 포함)
+     * - 일정 하나를 한 줄의 JSON 으로 조회하는 대로 바로 씁니다. (NDJSON)
+     */
+    @AdminLoggingTarget
+    @GetMapping(value = "/admin/todos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        OutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        todoExportService.exportTodos(todo -> {
+            try {
+                writer.writeValue(out, todo);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+}
@@ -4,19 +4,35 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.common.annotation.Auth;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoImportFormat;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoImportService todoImportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +42,89 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * 일정 대량 가져오기
+     * - 본문은 NDJSON(application/x-ndjson) 또는 CSV(text/csv) 이며 UTF-8 로 읽습니다.
+     */
+    @PostMapping(value = "/todos/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TodoImportResponse> importTodosFromNdjson(
+            @Auth AuthUser authUser,
+            @RequestParam(name = "batchSize", required = false) Integer batchSize,
+            InputStream body
+    ) {
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, utf8(body), TodoImportFormat.NDJSON, batchSize));
+    }
+
+    @PostMapping(value = "/todos/import", consumes = "text/csv")
+    public ResponseEntity<TodoImportResponse> importTodosFromCsv(
+            @Auth AuthUser authUser,
+            @RequestParam(name = "batchSize", required = false) Integer batchSize,
+            InputStream body
+    ) {
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, utf8(body), TodoImportFormat.CSV, batchSize));
+    }
+
+    /**
+     * 일정 목록 조회
+     * - If-None-Match 가 현재 버전과 같으면 목록을 조회하지 않고 304 를 반환합니다.
+     */
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            WebRequest webRequest
     ) {
+        if (todoService.getTodosVersion().checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    /**
+     * 커서 기반 일정 목록 조회 (무한 스크롤용)
+     * - cursor 파라미터가 있으면 이 핸들러로 매핑됩니다. 첫 페이지는 cursor= (빈 값) 으로 요청합니다.
+     */
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    /**
+     * 일정 단건 조회
+     * - If-None-Match / If-Modified-Since 가 현재 버전과 같으면 PK 조회 한 번 후 304 를 반환합니다.
+     */
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable("todoId") long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable("todoId") long todoId, WebRequest webRequest) {
+        ResourceVersion version = todoService.getTodoVersion(todoId);
+        if (version.checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(todoService.getTodo(todoId, version).getBody());
+    }
+
+    /**
+     * 일정 수정
+     * - If-Match 에 조회 응답의 ETag 를 넣으면 그 사이 다른 수정이 있었을 때 412 를 반환합니다.
+     * - 응답의 ETag 는 수정 후 버전입니다.
+     */
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable("todoId") long todoId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        Versioned<TodoResponse> updated = todoService.updateTodo(authUser, todoId, ifMatch, todoUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(updated.getVersion().getEtag())
+                .lastModified(updated.getVersion().getLastModified())
+                .body(updated.getBody());
+    }
+
+    private static Reader utf8(InputStream body) {
+        return new InputStreamReader(body, StandardCharsets.UTF_8);
     }
 }
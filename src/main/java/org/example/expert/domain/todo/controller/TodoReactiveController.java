@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoReactiveService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 일정 조회 API
+ * - 응답 형식과 JWT 인증(JwtFilter)은 /todos 와 같고, 조회는 R2DBC 로 수행합니다.
+ * - Mono 를 반환하면 조회하는 동안 요청 스레드를 반납하고 결과가 오면 비동기로 응답합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class TodoReactiveController {
+
+    private final TodoReactiveService todoReactiveService;
+
+    @GetMapping("/reactive/todos")
+    public Mono<ResponseEntity<Page<TodoResponse>>> getTodos(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return todoReactiveService.getTodos(page, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/reactive/todos/{todoId}")
+    public Mono<ResponseEntity<TodoResponse>> getTodo(@PathVariable("todoId") long todoId) {
+        return todoReactiveService.getTodo(todoId).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서 (modifiedAt, id)
+ * - 클라이언트에는 base64url 로 인코딩한 문자열만 노출합니다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((modifiedAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidRequestException(ExceptionCode.INVALID_CURSOR);
+            }
+
+            return new TodoCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 가져오기 본문의 한 줄
+ * - date 는 날씨를 조회할 날짜이며, 없으면 가져오기를 실행한 날짜를 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportLine {
+
+    private String title;
+    private String contents;
+    private LocalDate date;
+}
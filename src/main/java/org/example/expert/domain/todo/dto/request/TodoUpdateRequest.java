@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 부분 수정 요청
+ * - null 인 항목은 변경하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "제목은 공백일 수 없습니다.")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "내용은 공백일 수 없습니다.")
+    private String contents;
+}
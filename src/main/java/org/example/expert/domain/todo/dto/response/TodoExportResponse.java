@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 내보내기 한 줄 (일정 + 댓글 + 담당자)
+ */
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final List<CommentResponse> comments;
+    private final List<ManagerResponse> managers;
+
+    public TodoExportResponse(TodoResponse todo, List<CommentResponse> comments, List<ManagerResponse> managers) {
+        this.id = todo.getId();
+        this.title = todo.getTitle();
+        this.contents = todo.getContents();
+        this.weather = todo.getWeather();
+        this.user = todo.getUser();
+        this.createdAt = todo.getCreatedAt();
+        this.modifiedAt = todo.getModifiedAt();
+        this.comments = comments;
+        this.managers = managers;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 가져오기 결과
+ * - errors 는 앞에서부터 최대 MAX_REPORTED_ERRORS 건까지만 담고, failedCount 는 전체 실패 건수입니다.
+ */
+@Getter
+public class TodoImportResponse {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final long importedCount;
+    private final long failedCount;
+    private final List<TodoImportError> errors;
+
+    public TodoImportResponse(long importedCount, long failedCount, List<TodoImportError> errors) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+    }
+}
@@ -25,4 +25,11 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...) 용 생성자
+     */
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
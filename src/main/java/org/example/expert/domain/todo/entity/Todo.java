@@ -3,10 +3,13 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.common.config.CacheConfig;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,11 +17,24 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.TODO_REGION)
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 막으므로 50개씩 미리 할당받는 테이블 생성기를 사용합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id_generator")
+    @TableGenerator(name = "todo_id_generator", table = "id_generators",
+            pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "todos",
+            allocationSize = 50)
     private Long id;
+
+    // 낙관적 락 버전 (수정 시 UPDATE ... WHERE version = ? 으로 동시 수정을 감지합니다)
+    @Version
+    private Long version;
+
     private String title;
     private String contents;
     private String weather;
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.enums;
+
+/**
+ * 일정 가져오기 본문 형식
+ */
+public enum TodoImportFormat {
+    NDJSON, // 한 줄에 JSON 객체 하나 {"title": ..., "contents": ..., "date": "yyyy-MM-dd"}
+    CSV     // 첫 줄은 헤더(title,contents[,date]), 이후 한 줄에 일정 하나
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 논블로킹 조회 (R2DBC)
+ * - TodoRepository 의 TodoResponse 조회와 같은 컬럼만 SQL 로 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoReactiveRepository {
+
+    private static final String TODO_RESPONSE_SELECT =
+            "SELECT t.id, t.title, t.contents, t.weather, u.id AS user_id, u.email, t.created_at, t.modified_at " +
+            "FROM todos t JOIN users u ON u.id = t.user_id ";
+
+    private final DatabaseClient databaseClient;
+
+    // (modified_at, id) 인덱스 순서로 읽습니다.
+    public Flux<TodoResponse> findTodoResponses(long offset, int limit) {
+        return databaseClient.sql(TODO_RESPONSE_SELECT +
+                        "ORDER BY t.modified_at DESC, t.id DESC " +
+                        "LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(TodoReactiveRepository::toTodoResponse)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM todos")
+                .map(row -> row.get("cnt", Long.class))
+                .one();
+    }
+
+    public Mono<TodoResponse> findTodoResponseById(long todoId) {
+        return databaseClient.sql(TODO_RESPONSE_SELECT + "WHERE t.id = :todoId")
+                .bind("todoId", todoId)
+                .map(TodoReactiveRepository::toTodoResponse)
+                .one();
+    }
+
+    private static TodoResponse toTodoResponse(Readable row) {
+        return new TodoResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("contents", String.class),
+                row.get("weather", String.class),
+                row.get("user_id", Long.class),
+                row.get("email", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("modified_at", LocalDateTime.class)
+        );
+    }
+}
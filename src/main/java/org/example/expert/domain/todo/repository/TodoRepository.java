@@ -1,24 +1,82 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록 조회는 엔티티 대신 TodoResponse 에 필요한 컬럼만 바로 DTO 로 조회합니다.
+    String TODO_RESPONSE_SELECT = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // 스트리밍 조회 시 한 번에 가져올 행 수
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query(value = TODO_RESPONSE_SELECT +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    /**
+     * 커서 기반 첫 페이지 (count 쿼리 없음)
+     * - (modified_at, id) 인덱스를 역순으로 읽습니다.
+     */
+    @Query(TODO_RESPONSE_SELECT +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPageByCursor(Pageable pageable);
+
+    /**
+     * 커서 기반 다음 페이지 (count 쿼리 없음)
+     * - 직전 페이지 마지막 행의 (modifiedAt, id) 보다 뒤에 오는 행부터 인덱스로 바로 찾습니다.
+     * - 선행 조건 modifiedAt <= :modifiedAt 은 OR 조건만으로는 인덱스 범위 검색을 못 하는 DB 를 위한 것입니다.
+     */
+    @Query(TODO_RESPONSE_SELECT +
+            "WHERE t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextPageByCursor(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 전체 일정 스트리밍 조회 (id 오름차순, 내보내기용)
+     * - 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽습니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TODO_RESPONSE_SELECT +
+            "ORDER BY t.id")
+    Stream<TodoResponse> streamAllTodoResponses();
 
     int countById(Long todoId);
+
+    // 단건 조회 응답의 버전(ETag) (PK 조회)
+    @Query("SELECT new org.example.expert.common.dto.ResourceVersion(t.id, t.version, t.modifiedAt) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<ResourceVersion> findVersionById(@Param("todoId") Long todoId);
+
+    /**
+     * 수정용 조회
+     * - 2차 캐시를 거치지 않고 DB 에서 읽으므로, 다른 인스턴스가 먼저 수정한 버전을 놓치지 않습니다.
+     */
+    @Query("SELECT t FROM Todo t WHERE t.id = :todoId")
+    Optional<Todo> findByIdBypassingCache(@Param("todoId") Long todoId);
+
+    // 일정 작성자 id 만 조회합니다. (일정이 없으면 empty)
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentExportRow;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.ManagerExportRow;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 전체 일정 내보내기
+ * - 일정/댓글/담당자를 각각 일정 id 순으로 스트리밍 조회하고 정렬 병합(sort-merge)으로 묶습니다.
+ * - 쿼리는 3번이며, 메모리에는 일정 하나와 그 댓글/담당자만 올라갑니다. (전체 건수와 무관)
+ * - 세 스트림을 한 커넥션에서 동시에 읽으므로 MySQL 은 JDBC URL 에 useCursorFetch=true 가 필요합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+
+    @Transactional(readOnly = true)
+    public void exportTodos(Consumer<TodoExportResponse> consumer) {
+        try (Stream<TodoResponse> todos = todoRepository.streamAllTodoResponses();
+             Stream<CommentExportRow> comments = commentRepository.streamCommentExportRows();
+             Stream<ManagerExportRow> managers = managerRepository.streamManagerExportRows()) {
+
+            GroupedRows<CommentExportRow> commentRows = new GroupedRows<>(comments.iterator(), CommentExportRow::getTodoId);
+            GroupedRows<ManagerExportRow> managerRows = new GroupedRows<>(managers.iterator(), ManagerExportRow::getTodoId);
+
+            Iterator<TodoResponse> todoIterator = todos.iterator();
+            while (todoIterator.hasNext()) {
+                TodoResponse todo = todoIterator.next();
+                List<CommentResponse> todoComments = commentRows.take(todo.getId()).stream()
+                        .map(CommentExportRow::getComment)
+                        .toList();
+                List<ManagerResponse> todoManagers = managerRows.take(todo.getId()).stream()
+                        .map(ManagerExportRow::getManager)
+                        .toList();
+
+                consumer.accept(new TodoExportResponse(todo, todoComments, todoManagers));
+            }
+        }
+    }
+
+    /**
+     * 일정 id 오름차순으로 정렬된 행을 일정 단위로 꺼내는 커서
+     */
+    private static class GroupedRows<T> {
+
+        private final Iterator<T> iterator;
+        private final Function<T, Long> todoIdOf;
+        private T head;
+
+        GroupedRows(Iterator<T> iterator, Function<T, Long> todoIdOf) {
+            this.iterator = iterator;
+            this.todoIdOf = todoIdOf;
+            this.head = iterator.hasNext() ? iterator.next() : null;
+        }
+
+        /**
+         * todoId 에 속한 행을 모두 꺼냅니다. 그보다 앞선 일정 id 의 행은 건너뜁니다.
+         */
+        List<T> take(long todoId) {
+            while (head != null && todoIdOf.apply(head) < todoId) {
+                advance();
+            }
+
+            List<T> rows = new ArrayList<>();
+            while (head != null && todoIdOf.apply(head) == todoId) {
+                rows.add(head);
+                advance();
+            }
+            return rows;
+        }
+
+        private void advance() {
+            head = iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+}
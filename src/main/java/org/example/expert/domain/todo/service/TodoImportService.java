@@ -0,0 +1,282 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoImportLine;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoImportFormat;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 일정 대량 가져오기
+ * - 본문을 한 줄씩 읽어 파싱하므로 본문 전체를 메모리에 올리지 않습니다.
+ * - 날씨는 날짜별로 한 번만 조회하고, batchSize 건마다 TodoImportWriter 로 저장(트랜잭션 1개)합니다.
+ * - 잘못된 줄은 건너뛰고 줄 번호와 사유를 결과에 담습니다. 이미 저장된 청크는 되돌리지 않습니다.
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    // todos.title / todos.contents 컬럼 길이 (VARCHAR(255))
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final TodoImportWriter todoImportWriter;
+    private final WeatherClient weatherClient;
+    private final ObjectReader lineReader;
+    private final int defaultBatchSize;
+
+    public TodoImportService(TodoImportWriter todoImportWriter,
+                             WeatherClient weatherClient,
+                             ObjectMapper objectMapper,
+                             @Value("${todo.import.batch-size:500}") int defaultBatchSize) {
+        this.todoImportWriter = todoImportWriter;
+        this.weatherClient = weatherClient;
+        this.lineReader = objectMapper.readerFor(TodoImportLine.class);
+        this.defaultBatchSize = defaultBatchSize;
+    }
+
+    /**
+     * @param batchSize 트랜잭션 하나에 저장할 건수 (null 이면 todo.import.batch-size)
+     */
+    public TodoImportResponse importTodos(AuthUser authUser, Reader body, TodoImportFormat format, Integer batchSize) {
+        int chunkSize = batchSize == null ? defaultBatchSize : batchSize;
+        if (chunkSize < 1 || chunkSize > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException(ExceptionCode.VALIDATION_FAILED);
+        }
+
+        ImportContext context = new ImportContext(User.fromAuthUser(authUser), chunkSize);
+        try (BufferedReader reader = new BufferedReader(body)) {
+            LineParser parser = format == TodoImportFormat.CSV ? new CsvLineParser(reader.readLine()) : this::parseJson;
+            // CSV 는 헤더가 1번째 줄입니다.
+            long lineNumber = format == TodoImportFormat.CSV ? 1 : 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                context.add(lineNumber, line, parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        context.flush();
+
+        return new TodoImportResponse(context.importedCount, context.failedCount, context.errors);
+    }
+
+    /**
+     * NDJSON 한 줄 파싱
+     * - null, 숫자, 배열처럼 JSON 객체가 아닌 줄도 형식 오류로 처리합니다.
+     */
+    private TodoImportLine parseJson(String line) {
+        try {
+            JsonNode node = lineReader.readTree(line);
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+            }
+            return lineReader.readValue(node);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        TodoImportLine parse(String line);
+    }
+
+    /**
+     * 한 번의 가져오기 동안의 상태 (청크, 날짜별 날씨, 집계)
+     */
+    private class ImportContext {
+
+        private final User user;
+        private final int chunkSize;
+        private final LocalDate today = LocalDate.now();
+        private final Map<LocalDate, String> weatherByDate = new HashMap<>();
+
+        private final List<Todo> chunk;
+        private final long[] chunkLines;
+
+        private long importedCount;
+        private long failedCount;
+        private final List<TodoImportError> errors = new ArrayList<>();
+
+        ImportContext(User user, int chunkSize) {
+            this.user = user;
+            this.chunkSize = chunkSize;
+            this.chunk = new ArrayList<>(chunkSize);
+            this.chunkLines = new long[chunkSize];
+        }
+
+        void add(long lineNumber, String line, LineParser parser) {
+            Todo todo;
+            try {
+                TodoImportLine importLine = parser.parse(line);
+                if (!StringUtils.hasText(importLine.getTitle())) {
+                    throw new IllegalArgumentException("제목은 필수 입력값입니다.");
+                }
+                if (!StringUtils.hasText(importLine.getContents())) {
+                    throw new IllegalArgumentException("내용은 필수 입력값입니다.");
+                }
+                // 길이를 넘는 줄 하나 때문에 청크 전체의 저장이 실패하지 않도록 저장 전에 줄 단위로 거릅니다.
+                if (exceedsColumnLength(importLine.getTitle())) {
+                    throw new IllegalArgumentException("제목은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다.");
+                }
+                if (exceedsColumnLength(importLine.getContents())) {
+                    throw new IllegalArgumentException("내용은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다.");
+                }
+                LocalDate date = importLine.getDate() == null ? today : importLine.getDate();
+                todo = new Todo(importLine.getTitle(), importLine.getContents(), resolveWeather(date), user);
+            } catch (IllegalArgumentException | ServerException e) {
+                fail(lineNumber, e.getMessage());
+                return;
+            }
+
+            chunkLines[chunk.size()] = lineNumber;
+            chunk.add(todo);
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                todoImportWriter.write(chunk);
+                importedCount += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("Todo import chunk failed. lines: {}-{}, cause: {}",
+                        chunkLines[0], chunkLines[chunk.size() - 1], e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    fail(chunkLines[i], "저장에 실패했습니다.");
+                }
+            }
+            chunk.clear();
+        }
+
+        private static boolean exceedsColumnLength(String value) {
+            return value.codePointCount(0, value.length()) > MAX_TEXT_LENGTH;
+        }
+
+        private String resolveWeather(LocalDate date) {
+            String weather = weatherByDate.get(date);
+            if (weather == null) {
+                weather = weatherClient.getWeather(date);
+                weatherByDate.put(date, weather);
+            }
+            return weather;
+        }
+
+        private void fail(long lineNumber, String message) {
+            failedCount++;
+            if (errors.size() < TodoImportResponse.MAX_REPORTED_ERRORS) {
+                errors.add(new TodoImportError(lineNumber, message));
+            }
+        }
+    }
+
+    /**
+     * 헤더로 컬럼 위치를 정하는 CSV 한 줄 파서
+     * - 큰따옴표로 감싼 필드와 "" 이스케이프를 지원하며, 필드 안의 줄바꿈은 지원하지 않습니다.
+     */
+    private static class CsvLineParser implements LineParser {
+
+        private final int titleIndex;
+        private final int contentsIndex;
+        private final int dateIndex;
+
+        CsvLineParser(String header) {
+            if (header == null) {
+                throw new InvalidRequestException(ExceptionCode.INVALID_IMPORT_FORMAT);
+            }
+            // 엑셀 등에서 저장한 UTF-8 BOM 은 제거합니다.
+            List<String> columns = split(header.startsWith("\uFEFF") ? header.substring(1) : header)
+                    .stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+            this.titleIndex = columns.indexOf("title");
+            this.contentsIndex = columns.indexOf("contents");
+            this.dateIndex = columns.indexOf("date");
+            if (titleIndex < 0 || contentsIndex < 0) {
+                throw new InvalidRequestException(ExceptionCode.INVALID_IMPORT_FORMAT);
+            }
+        }
+
+        @Override
+        public TodoImportLine parse(String line) {
+            List<String> fields = split(line);
+            String date = field(fields, dateIndex);
+            try {
+                return new TodoImportLine(
+                        field(fields, titleIndex),
+                        field(fields, contentsIndex),
+                        StringUtils.hasText(date) ? LocalDate.parse(date.trim()) : null
+                );
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("날짜는 yyyy-MM-dd 형식이어야 합니다.");
+            }
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
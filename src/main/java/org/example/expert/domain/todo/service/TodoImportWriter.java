@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정 가져오기의 청크 단위 저장
+ * - 청크 하나가 트랜잭션 하나이며, 커밋 시 Todo 와 작성자 Manager 가 JDBC 배치로 insert 됩니다.
+ * - 청크마다 일정 목록 버전을 한 번 올립니다.
+ * - TodoImportService 에서 프록시를 거쳐 호출되도록 별도 빈으로 분리했습니다.
+ * - @Repository 로 등록해 flush 중 발생한 JPA/Hibernate 예외가 DataAccessException 으로 변환되도록 합니다.
+ *   (TodoImportService 는 DataAccessException 으로 실패한 청크를 구분합니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoImportWriter {
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+    private final CollectionVersionCounter collectionVersionCounter;
+
+    /**
+     * 저장 후 영속성 컨텍스트를 비워, 호출하는 쪽이 EntityManager 를 공유하고 있어도(OSIV 등)
+     * 저장한 엔티티가 가져오기가 끝날 때까지 쌓이거나 다음 청크의 flush 에서 다시 더티 체킹되지 않게 합니다.
+     */
+    @Transactional
+    public void write(List<Todo> todos) {
+        todoRepository.saveAll(todos);
+        entityManager.flush();
+        entityManager.clear();
+        collectionVersionCounter.increment(CollectionVersionCounter.TODOS);
+    }
+}
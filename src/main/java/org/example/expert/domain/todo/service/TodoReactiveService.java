@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 일정 논블로킹 조회
+ * - 응답은 TodoService 의 조회와 같고, DB 대기 중에는 스레드를 점유하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoReactiveService {
+
+    private final TodoReactiveRepository todoReactiveRepository;
+
+    /**
+     * 일정 목록 조회
+     * - 목록과 전체 건수 쿼리를 서로 기다리지 않고 동시에 실행합니다.
+     */
+    public Mono<Page<TodoResponse>> getTodos(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return Mono.zip(
+                todoReactiveRepository.findTodoResponses(pageable.getOffset(), pageable.getPageSize()).collectList(),
+                todoReactiveRepository.count()
+        ).<Page<TodoResponse>>map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    public Mono<TodoResponse> getTodo(long todoId) {
+        return todoReactiveRepository.findTodoResponseById(todoId)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO)));
+    }
+}
@@ -1,32 +1,59 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.common.config.CacheConfig;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
 import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.OptimisticLockExecutor;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final OptimisticLockExecutor optimisticLockExecutor;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersionCounter collectionVersionCounter;
 
-    @Transactional
+    /**
+     * 일정 저장
+     * - 날씨 조회(원격 호출 가능)가 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 먼저 수행합니다.
+     * - 저장은 한 트랜잭션 안에서 Todo 와 작성자 Manager 를 insert 하고 일정 목록 버전을 올립니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -38,7 +65,11 @@ public class TodoService {
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        Todo savedTodo = transactionTemplate.execute(status -> {
+            Todo saved = todoRepository.save(newTodo);
+            collectionVersionCounter.increment(CollectionVersionCounter.TODOS);
+            return saved;
+        });
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -49,29 +80,136 @@ public class TodoService {
         );
     }
 
+    /**
+     * 일정 수정 (작성자만 가능)
+     * - 비관적 락 없이 @Version 으로 동시 수정을 감지합니다.
+     * - If-Match 가 있으면 그 버전일 때만 수정하고, 다르거나 커밋 시점에 충돌하면 412 를 반환합니다.
+     * - If-Match 가 없으면 요청한 항목의 값으로 덮어쓰는 변경이므로, 충돌 시 최신 상태를 다시 읽어 같은 변경을 재적용합니다.
+     *   (서로 다른 항목을 고친 요청은 모두 반영되고, 같은 항목은 마지막에 커밋된 값이 남습니다)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Versioned<TodoResponse> updateTodo(AuthUser authUser, long todoId, String ifMatch, TodoUpdateRequest todoUpdateRequest) {
+        return optimisticLockExecutor.execute(ResourceVersion.isUnconditional(ifMatch), () -> {
+            Todo todo = todoRepository.findByIdBypassingCache(todoId)
+                    .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
+
+            User user = todo.getUser();
+            if (!ObjectUtils.nullSafeEquals(user.getId(), authUser.getId())) {
+                throw new InvalidRequestException(ExceptionCode.FORBIDDEN_ACCESS);
+            }
+            if (!versionOf(todo).matches(ifMatch)) {
+                throw new InvalidRequestException(ExceptionCode.PRECONDITION_FAILED);
+            }
+
+            todo.update(
+                    todoUpdateRequest.getTitle() != null ? todoUpdateRequest.getTitle() : todo.getTitle(),
+                    todoUpdateRequest.getContents() != null ? todoUpdateRequest.getContents() : todo.getContents()
+            );
+            // 응답의 ETag 가 이후 조회/If-Match 와 같도록, 반영 후 DB 에 저장된 버전과 수정 시각으로 만듭니다.
+            todoRepository.flush();
+            ResourceVersion version = todoRepository.findVersionById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
+            collectionVersionCounter.increment(CollectionVersionCounter.TODOS);
+
+            TodoResponse response = new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(user.getId(), authUser.getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            );
+            return new Versioned<>(response, version);
+        });
+    }
+
+    /**
+     * 일정 목록 조회
+     * - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 TodoResponse 로 바로 조회합니다.
+     */
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findTodoResponses(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    /**
+     * 커서 기반 일정 목록 조회
+     * - offset/count 없이 (modifiedAt, id) 인덱스로 바로 이어서 읽으므로 페이지 깊이와 무관하게 O(size) 입니다.
+     * - size + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다.
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     */
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException(ExceptionCode.VALIDATION_FAILED);
+        }
+        int pageSize = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<TodoResponse> todos;
+        if (StringUtils.hasText(cursor)) {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextPageByCursor(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        } else {
+            todos = todoRepository.findFirstPageByCursor(limit);
+        }
+
+        boolean hasNext = todos.size() > pageSize;
+        List<TodoResponse> page = hasNext ? todos.subList(0, pageSize) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = page.get(page.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(page, nextCursor);
+    }
+
+    /**
+     * 일정 목록 응답의 버전 (조건부 GET 용)
+     * - 일정을 추가/수정하는 트랜잭션이 올리는 카운터이므로, 늦게 커밋된 변경도 놓치지 않습니다.
+     * - 페이지/크기는 URL 이 다르므로 포함하지 않습니다.
+     */
+    public ResourceVersion getTodosVersion() {
+        return collectionVersionCounter.getVersion(CollectionVersionCounter.TODOS);
+    }
+
+    /**
+     * 일정 단건 응답의 버전 (조건부 GET, 응답 캐시 키)
+     * - 작성자 정보(id, email)는 바뀌지 않으므로 일정의 낙관적 락 버전과 수정 시각으로 정합니다.
+     */
+    public ResourceVersion getTodoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
     }
 
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+    /**
+     * 일정 단건 조회
+     * - 응답은 (일정 id, 버전) 으로 캐싱합니다. 수정되면 버전이 바뀌어 새 키로 조회하므로 무효화가 필요 없고,
+     *   이전 버전의 항목은 크기/TTL 로 정리됩니다.
+     * - 캐시 미스 중에 다른 요청이 수정을 커밋해도, 읽은 일정의 버전이 요청한 버전과 다르면 캐싱하지 않으므로
+     *   오래된 응답이 최신 버전의 키로 남지 않습니다.
+     * - 캐시 미스일 때도 Todo 와 작성자(User)는 2차 캐시에서 먼저 찾습니다. (fetch join 쿼리는 2차 캐시를 거치지 않음)
+     * - 2차 캐시나 요청의 영속성 컨텍스트(OSIV)에 있던 일정이 요청한 버전과 다르면 DB 에서 다시 읽습니다.
+     *   요청한 버전은 응답의 ETag 로 이미 나갔으므로, 본문이 그 ETag 보다 오래된 상태가 되지 않도록 합니다.
+     *
+     * @param version getTodoVersion 으로 조회한 현재 버전
+     */
+    @Cacheable(cacheNames = CacheConfig.TODO_RESPONSE_CACHE, key = "#todoId + ':' + #version.etag",
+            unless = "!#result.version.etag.equals(#version.etag)")
+    public Versioned<TodoResponse> getTodo(long todoId, ResourceVersion version) {
+        Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO));
+        if (!versionOf(todo).getEtag().equals(version.getEtag())) {
+            entityManager.refresh(todo);
+        }
 
         User user = todo.getUser();
 
-        return new TodoResponse(
+        TodoResponse response = new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
@@ -80,5 +218,10 @@ public class TodoService {
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         );
+        return new Versioned<>(response, versionOf(todo));
+    }
+
+    private static ResourceVersion versionOf(Todo todo) {
+        return new ResourceVersion(todo.getId(), todo.getVersion(), todo.getModifiedAt());
     }
 }
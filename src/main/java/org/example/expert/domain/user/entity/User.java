@@ -4,20 +4,25 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.common.config.CacheConfig;
 import org.example.expert.common.dto.AuthUser;
 import org.example.expert.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USER_REGION)
+@Table(name = "users", indexes = {
+        @Index(name = "uk_users_email", columnList = "email", unique = true)
+})
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true)
     private String email;
 
     @Column(nullable = false, length = 100)
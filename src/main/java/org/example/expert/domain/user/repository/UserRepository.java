@@ -1,11 +1,35 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 응답에 필요한 id, email 만 조회합니다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findUserResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 재해싱용, 짧은 쓰기 트랜잭션 하나)
+     * - 확인한 해시가 그대로일 때만 바꾸므로, 그 사이 비밀번호가 변경되었으면 덮어쓰지 않습니다.
+     *
+     * @return 변경된 행 수 (해시가 바뀌었으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
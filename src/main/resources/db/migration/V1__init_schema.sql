@@ -0,0 +1,62 @@
+-- H2 / MySQL 공통으로 동작하는 문법만 사용합니다.
+
+CREATE TABLE users
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255),
+    password    VARCHAR(100) NOT NULL,
+    user_role   VARCHAR(20),
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+CREATE TABLE todos
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 일정 목록 (modified_at DESC, id DESC) 정렬/커서 조회
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC);
+
+CREATE TABLE comments
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    contents    VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    todo_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 일정별 댓글 조회
+CREATE INDEX idx_comments_todo_id_id ON comments (todo_id, id);
+
+-- 위 인덱스를 FK 인덱스로 쓰도록 인덱스를 만든 뒤에 FK 를 추가합니다.
+ALTER TABLE comments ADD CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id);
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 일정별 담당자 조회, 담당자 중복 확인
+CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id);
+
+ALTER TABLE managers ADD CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id);
@@ -0,0 +1,13 @@
+-- todos / comments / managers 의 id 를 테이블 기반 pooled-lo 생성기로 발급합니다.
+-- next_val 은 마지막으로 할당한 id 이며, 기존 데이터의 최대 id 다음부터 발급됩니다.
+
+CREATE TABLE id_generators
+(
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_generators (name, next_val) SELECT 'todos', COALESCE(MAX(id), 0) FROM todos;
+INSERT INTO id_generators (name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) FROM comments;
+INSERT INTO id_generators (name, next_val) SELECT 'managers', COALESCE(MAX(id), 0) FROM managers;
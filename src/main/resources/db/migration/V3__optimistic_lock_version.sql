@@ -0,0 +1,3 @@
+-- 일정/댓글 동시 수정 감지를 위한 낙관적 락 버전 컬럼
+ALTER TABLE todos ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE comments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
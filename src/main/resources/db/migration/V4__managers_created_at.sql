@@ -0,0 +1,2 @@
+-- 담당자 목록 버전(ETag) 계산용 등록 시각 (기존 행은 NULL 이며 MAX 에서 제외됩니다)
+ALTER TABLE managers ADD COLUMN created_at TIMESTAMP(6);
@@ -0,0 +1,12 @@
+-- 목록 조회 버전(ETag) 용 카운터
+-- 목록을 바꾸는 트랜잭션이 같은 트랜잭션 안에서 1 씩 올리므로, 행 락 순서(커밋 순서)대로 증가합니다.
+-- name 은 'todos'(일정 목록), 'comments:{todoId}'(일정별 댓글 목록) 이며, 댓글 행은 처음 쓸 때 만듭니다.
+
+CREATE TABLE collection_versions
+(
+    name    VARCHAR(100) NOT NULL,
+    version BIGINT       NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO collection_versions (name, version) VALUES ('todos', 0);
@@ -0,0 +1,163 @@
+package org.example.expert.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.common.config.WeatherClientConfig;
+import org.example.expert.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WeatherClientTest")
+class WeatherClientTest {
+
+    private WeatherStubServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new WeatherStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+        weatherClient = new WeatherClient(
+                WeatherClientConfig.createRestTemplate(new RestTemplateBuilder(),
+                        Duration.ofSeconds(1), Duration.ofMillis(300), Duration.ofSeconds(1), 5),
+                CircuitBreaker.of("weather", CircuitBreakerConfig.custom()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .build()),
+                Bulkhead.ofDefaults("weather"),
+                meterRegistry,
+                stubServer.baseUrl()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    private String weatherEntry(LocalDate date, String weather) {
+        return "{\"date\":\"" + date.format(DateTimeFormatter.ofPattern("MM-dd")) + "\",\"weather\":\"" + weather + "\"}";
+    }
+
+    @Test
+    @DisplayName("한 번 불러온 뒤에는 어느 날짜든 원격 API 를 호출하지 않는다.")
+    void shouldAnswerAnyDateFromCalendar_afterFirstLoad() {
+
+        // given
+        LocalDate today = LocalDate.now();
+        stubServer.respond(200, "[" + weatherEntry(today, "Sunny") + "," + weatherEntry(today.minusDays(1), "Rainy") + "]");
+
+        // when
+        String todayWeather = weatherClient.getTodayWeather();
+        String yesterdayWeather = weatherClient.getWeather(today.minusDays(1));
+        weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", todayWeather);
+        assertEquals("Rainy", yesterdayWeather);
+        assertEquals(1, stubServer.requestCount());
+    }
+
+    @Test
+    @DisplayName("윤년의 02-29 도 조회할 수 있다.")
+    void shouldSupportLeapDay() {
+
+        // given
+        stubServer.respond(200, "[{\"date\":\"02-29\",\"weather\":\"Snowy\"}]");
+
+        // when
+        String weather = weatherClient.getWeather(LocalDate.of(2028, 2, 29));
+
+        // then
+        assertEquals("Snowy", weather);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 기존 데이터를 계속 사용한다.")
+    void shouldKeepPreviousCalendar_whenRefreshFails() {
+
+        // given
+        stubServer.respond(200, "[" + weatherEntry(LocalDate.now(), "Sunny") + "]");
+        weatherClient.refreshCalendar();
+        stubServer.respond(500, "error");
+
+        // when
+        weatherClient.refreshCalendar();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(2, stubServer.requestCount());
+    }
+
+    @Test
+    @DisplayName("해당 날짜의 데이터가 없으면 예외가 발생한다.")
+    void shouldThrowException_whenDateMissing() {
+
+        // given
+        stubServer.respond(200, "[" + weatherEntry(LocalDate.now(), "Sunny") + "]");
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class,
+                () -> weatherClient.getWeather(LocalDate.now().plusDays(1)));
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("불러온 데이터가 없고 원격 API 가 실패하면 예외가 발생한다.")
+    void shouldThrowException_whenNoCalendarAndApiFails() {
+
+        // given
+        stubServer.respond(500, "error");
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("날씨 데이터를 가져오는데 실패했습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("원격 API 응답이 read timeout 을 넘으면 예외가 발생한다.")
+    void shouldThrowException_whenApiIsSlow() {
+
+        // given
+        stubServer.respond(200, "[" + weatherEntry(LocalDate.now(), "Sunny") + "]");
+        stubServer.delay(1_000);
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(elapsedMillis < 1_000);
+        assertEquals(1, meterRegistry.get("weather.api.requests").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하면 서킷이 열려 원격 API 를 호출하지 않는다.")
+    void shouldNotCallApi_whenCircuitIsOpen() {
+
+        // given
+        stubServer.respond(500, "error");
+        weatherClient.refreshCalendar();
+        weatherClient.refreshCalendar();
+
+        // when
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals(2, stubServer.requestCount());
+    }
+}
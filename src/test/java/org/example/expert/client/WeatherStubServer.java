@@ -0,0 +1,63 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 날씨 API 서버 (/f-api/weather.json)
+ */
+class WeatherStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile int status = 200;
+    private volatile String body = "[]";
+    private volatile long delayMillis;
+
+    WeatherStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    void delay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
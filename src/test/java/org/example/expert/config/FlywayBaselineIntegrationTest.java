@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 도입 이전(ddl-auto) 스키마의 업그레이드 통합 테스트 (H2)
+ * - 이력 테이블 없이 ddl-auto 가 만든 테이블과 데이터가 있는 DB 로 컨텍스트를 띄웁니다. (빈 생성 전에 스크립트로 만듭니다)
+ * - 컨텍스트가 뜨면 마이그레이션 적용, 엔티티 매핑 검증(validate), 풀 스캔 검사(QueryPlanVerifier)를 모두 통과한 것입니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + FlywayBaselineIntegrationTest.URL)
+@ContextConfiguration(initializers = FlywayBaselineIntegrationTest.LegacySchemaInitializer.class)
+class FlywayBaselineIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy-schema-test;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("ddl-auto 로 만든 DB 는 V1 으로 baseline 한 뒤 V2 부터 적용한다.")
+    void shouldBaselineAtV1AndApplyLaterMigrations_whenSchemaCreatedByDdlAuto() {
+
+        // when
+        List<Map<String, Object>> history = jdbcTemplate.queryForList(
+                "SELECT \"version\", \"type\", \"success\" FROM \"flyway_schema_history\" " +
+                        "WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"");
+
+        // then
+        assertEquals("1", history.get(0).get("version"));
+        assertEquals("BASELINE", history.get(0).get("type"));
+        assertEquals(List.of("2", "3", "4", "5", "6"),
+                history.subList(1, history.size()).stream().map(row -> (String) row.get("version")).toList());
+        assertTrue(history.stream().allMatch(row -> Boolean.TRUE.equals(row.get("success"))));
+    }
+
+    @Test
+    @DisplayName("ddl-auto 스키마에 없던 V1 인덱스만 만들고, 이름이 다른 기존 unique 제약은 중복해서 만들지 않는다.")
+    void shouldCreateOnlyMissingV1Indexes() {
+
+        // when
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                        "WHERE TABLE_NAME IN ('USERS', 'TODOS', 'COMMENTS', 'MANAGERS')", String.class);
+        Integer emailIndexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_NAME = 'USERS' AND COLUMN_NAME = 'EMAIL'",
+                Integer.class);
+
+        // then
+        assertTrue(indexes.containsAll(List.of(
+                "IDX_TODOS_MODIFIED_AT_ID", "IDX_COMMENTS_TODO_ID_ID", "IDX_MANAGERS_TODO_ID_USER_ID")), indexes::toString);
+        assertFalse(indexes.contains("UK_USERS_EMAIL"), indexes::toString);
+        assertEquals(1, emailIndexCount);
+    }
+
+    @Test
+    @DisplayName("기존 데이터를 유지하고, 새 일정 id 는 기존 최대 id 다음부터 발급한다.")
+    void shouldKeepLegacyRowsAndContinueIds() {
+
+        // given
+        User legacyUser = userRepository.findByEmail("legacy@email.com").orElseThrow();
+
+        // when
+        Todo saved = todoRepository.save(new Todo("title", "contents", "Sunny", legacyUser));
+
+        // then
+        assertEquals("legacy", todoRepository.findById(20L).orElseThrow().getTitle());
+        assertTrue(saved.getId() > 20L, () -> "id: " + saved.getId());
+    }
+
+    static class LegacySchemaInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+            try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("legacy/ddl-auto-schema.sql"));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.expert.common.util.JwtTokenCache;
+import org.example.expert.common.util.JwtTokenCache.VerifiedToken;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtTokenCacheTest")
+class JwtTokenCacheTest {
+
+    private Claims claims(long userId, long expiresAt) {
+        Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
+        claims.put("email", "test@email.com");
+        claims.put("userRole", UserRole.USER.name());
+        claims.setExpiration(new Date(expiresAt));
+        return claims;
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 다음 조회 시 캐시에서 반환된다.")
+    void shouldReturnCachedToken_whenTokenWasVerified() {
+
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", claims(1L, System.currentTimeMillis() + 60_000));
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenCache.get("token");
+
+        // then
+        assertNotNull(verifiedToken);
+        assertEquals(1L, verifiedToken.getUserId());
+        assertEquals("test@email.com", verifiedToken.getEmail());
+        assertEquals(UserRole.USER, verifiedToken.getUserRole());
+        assertEquals(1, jwtTokenCache.getHitCount());
+        assertEquals(0, jwtTokenCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 제거되고 miss 로 집계된다.")
+    void shouldEvictToken_whenTokenExpired() {
+
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", claims(1L, System.currentTimeMillis() - 1));
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenCache.get("token");
+
+        // then
+        assertNull(verifiedToken);
+        assertEquals(0, jwtTokenCache.size());
+        assertEquals(1, jwtTokenCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 토큰으로 가득 차도 최대 크기를 넘지 않도록 제거된다.")
+    void shouldKeepMaxSize_whenCacheIsFull() {
+
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        for (long i = 0; i < 100; i++) {
+            jwtTokenCache.put("token" + i, claims(i, expiresAt));
+        }
+
+        // then
+        assertEquals(10, jwtTokenCache.size());
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtUtilTest")
+class JwtUtilTest {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("발급한 토큰에서 claims 를 추출할 수 있다.")
+    void shouldExtractClaims_whenTokenCreated() {
+
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@email.com", UserRole.ADMIN));
+
+        // when
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertEquals("test@email.com", claims.get("email", String.class));
+        assertEquals("ADMIN", claims.get("userRole", String.class));
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 jjwt 파서로도 검증된다.")
+    void shouldBeVerifiableByJjwtParser() {
+
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(2L, "a\"b@email.com", UserRole.USER));
+
+        // when
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        // then
+        assertEquals("2", claims.getSubject());
+        assertEquals("a\"b@email.com", claims.get("email", String.class));
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.OptimisticLockExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OptimisticLockExecutorTest")
+class OptimisticLockExecutorTest {
+
+    private OptimisticLockExecutor executor;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        executor = new OptimisticLockExecutor(new TransactionTemplate(mock(PlatformTransactionManager.class)), entityManager, 3, 0);
+    }
+
+    @Test
+    @DisplayName("충돌하면 최대 시도 횟수 안에서 다시 실행한다.")
+    void shouldRetry_whenOptimisticLockFails() {
+
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute(true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Todo", 1L);
+            }
+            return "updated";
+        });
+
+        // then
+        assertEquals("updated", result);
+        assertEquals(3, attempts.get());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 UPDATE_CONFLICT 예외를 던진다.")
+    void shouldThrowUpdateConflict_whenRetriesExhausted() {
+
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                executor.execute(true, () -> {
+                    attempts.incrementAndGet();
+                    throw new ObjectOptimisticLockingFailureException("Todo", 1L);
+                }));
+
+        // then
+        assertEquals(ExceptionCode.UPDATE_CONFLICT, exception.getExceptionCode());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("재시도하지 않는 요청은 충돌 시 바로 PRECONDITION_FAILED 예외를 던진다.")
+    void shouldThrowPreconditionFailed_whenNotRetryable() {
+
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                executor.execute(false, () -> {
+                    attempts.incrementAndGet();
+                    throw new ObjectOptimisticLockingFailureException("Todo", 1L);
+                }));
+
+        // then
+        assertEquals(ExceptionCode.PRECONDITION_FAILED, exception.getExceptionCode());
+        assertEquals(1, attempts.get());
+    }
+}
@@ -1,12 +1,17 @@
 package org.example.expert.config;
 
+import org.example.expert.common.exception.ServerException;
 import org.example.expert.common.util.PasswordEncoder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
@@ -26,4 +31,63 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 저장된_강도가_현재_강도보다_낮으면_재해싱이_필요하다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 10);
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 11);
+
+        // then
+        assertTrue(passwordEncoder.needsRehash(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(passwordEncoder.encode("testPassword")));
+    }
+
+    @Test
+    void 설정한_강도를_낮추면_더_높은_강도의_해시도_재해싱이_필요하다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 11);
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 10);
+
+        // then
+        assertTrue(passwordEncoder.needsRehash(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(passwordEncoder.encode("testPassword")));
+    }
+
+    @Test
+    void 해싱_풀이_가득_차면_503_예외가_발생한다() throws Exception {
+        // given
+        PasswordEncoder boundedEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(boundedEncoder, "threads", 1);
+        ReflectionTestUtils.setField(boundedEncoder, "queueCapacity", 0);
+        boundedEncoder.init();
+
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        ThreadPoolExecutor hashingExecutor =
+                (ThreadPoolExecutor) ReflectionTestUtils.getField(boundedEncoder, "hashingExecutor");
+
+        try {
+            CompletableFuture<Boolean> running =
+                    CompletableFuture.supplyAsync(() -> boundedEncoder.matches("testPassword", encodedPassword));
+            while (hashingExecutor.getActiveCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            ServerException exception = assertThrows(ServerException.class,
+                    () -> boundedEncoder.matches("testPassword", encodedPassword));
+
+            // then
+            assertEquals(503, exception.getExceptionCode().getStatus().value());
+            assertTrue(running.get());
+        } finally {
+            boundedEncoder.shutdown();
+        }
+    }
 }
@@ -15,15 +15,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthServiceTest")
@@ -145,5 +150,68 @@ class AuthServiceTest {
             assertEquals("mockToken", response.getBearerToken());
         }
 
+        @Test
+        @DisplayName("저장된 해시의 강도가 현재 강도와 다르면 로그인 시 다시 해싱한다.")
+        public void signin_shouldRehashPassword_whenCostChanged() {
+
+            // given
+            SigninRequest request = new SigninRequest("test@email.com", "1234");
+            User mockUser = new User("test@email.com", "oldHash", UserRole.USER);
+            given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(mockUser));
+            given(passwordEncoder.matches(any(), any())).willReturn(true);
+            given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+            given(passwordEncoder.encode(request.getPassword())).willReturn("newHash");
+
+            // when
+            authService.signin(request);
+
+            // then
+            verify(userRepository).updatePasswordIfUnchanged(mockUser.getId(), "oldHash", "newHash");
+        }
+
+        @Test
+        @DisplayName("설정한 강도를 낮추면 더 높은 강도로 저장된 해시를 낮춘 강도로 다시 저장한다.")
+        public void signin_shouldRewriteHashWithLowerCost_whenCostLowered() {
+
+            // given
+            PasswordEncoder realEncoder = new PasswordEncoder();
+            ReflectionTestUtils.setField(realEncoder, "cost", 11);
+            String storedHash = realEncoder.encode("1234");
+            ReflectionTestUtils.setField(realEncoder, "cost", 10);
+            AuthService lowerCostAuthService = new AuthService(userRepository, realEncoder, jwtUtil);
+
+            User mockUser = new User("test@email.com", storedHash, UserRole.USER);
+            ReflectionTestUtils.setField(mockUser, "id", 1L);
+            given(userRepository.findByEmail("test@email.com")).willReturn(Optional.of(mockUser));
+
+            // when
+            lowerCostAuthService.signin(new SigninRequest("test@email.com", "1234"));
+
+            // then
+            ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+            verify(userRepository).updatePasswordIfUnchanged(eq(1L), eq(storedHash), rehashed.capture());
+            assertTrue(rehashed.getValue().startsWith("$2a$10$"));
+            assertTrue(realEncoder.matches("1234", rehashed.getValue()));
+        }
+
+        @Test
+        @DisplayName("저장된 해시의 강도가 현재 강도와 같으면 다시 해싱하지 않는다.")
+        public void signin_shouldNotRehash_whenCostUnchanged() {
+
+            // given
+            SigninRequest request = new SigninRequest("test@email.com", "1234");
+            User mockUser = new User("test@email.com", "currentHash", UserRole.USER);
+            given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(mockUser));
+            given(passwordEncoder.matches(any(), any())).willReturn(true);
+            given(passwordEncoder.needsRehash("currentHash")).willReturn(false);
+
+            // when
+            authService.signin(request);
+
+            // then
+            verify(passwordEncoder, never()).encode(any());
+            verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+        }
+
     }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package org.example.expert.domain.comment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.ResourceVersion;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -10,13 +12,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.function.Consumer;
+
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentController.class)
@@ -60,16 +70,77 @@ class CommentControllerTest {
 
         // given
         long todoId = 1L;
-        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        given(commentService.getCommentsVersion(todoId)).willReturn(new ResourceVersion(3L));
 
         // when
         mockMvc.perform(get("/todos/" + todoId + "/comments")
                 .contentType("application/json"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andDo(print());
 
         // then
         verify(commentService).getComments(todoId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("If-None-Match 가 현재 버전과 같으면 댓글 목록을 조회하지 않고 304 를 반환한다.")
+    public void shouldReturnNotModified_whenCommentsVersionMatches() throws Exception {
+
+        // given
+        long todoId = 1L;
+        ResourceVersion version = new ResourceVersion(3L);
+        given(commentService.getCommentsVersion(todoId)).willReturn(version);
+
+        // when
+        mockMvc.perform(get("/todos/" + todoId + "/comments")
+                .header("If-None-Match", version.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        // then
+        verify(commentService, never()).getComments(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 커서 기반 조회 요청 성공")
+    public void shouldGetCommentsByCursorSuccessfully() throws Exception {
+
+        // given
+        long todoId = 1L;
+
+        // when
+        mockMvc.perform(get("/todos/" + todoId + "/comments")
+                .param("cursor", "10")
+                .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(commentService).getCommentsByCursor(todoId, "10", 20);
+    }
+
+    @Test
+    @DisplayName("Accept 가 application/x-ndjson 이면 댓글을 한 줄씩 스트리밍한다.")
+    public void shouldStreamCommentsAsNdjson() throws Exception {
+
+        // given
+        long todoId = 1L;
+        willAnswer(invocation -> {
+            Consumer<CommentResponse> consumer = invocation.getArgument(1);
+            consumer.accept(new CommentResponse(1L, "first", 1L, "test@email.com"));
+            consumer.accept(new CommentResponse(2L, "second", 1L, "test@email.com"));
+            return null;
+        }).given(commentService).streamComments(eq(todoId), any());
+
+        // when & then
+        mockMvc.perform(get("/todos/" + todoId + "/comments")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"contents\":\"first\",\"user\":{\"id\":1,\"email\":\"test@email.com\"}}\n" +
+                        "{\"id\":2,\"contents\":\"second\",\"user\":{\"id\":1,\"email\":\"test@email.com\"}}\n"));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import org.example.expert.common.dto.AuthUser;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.todo.entity.Todo;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -29,6 +31,9 @@ class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CollectionVersionCounter collectionVersionCounter;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -60,6 +65,7 @@ class CommentAdminServiceTest {
             AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
             User mockUser = User.fromAuthUser(authUser);
             Todo mockTodo = new Todo("testTitle", "testContents", "testWeather", mockUser);
+            ReflectionTestUtils.setField(mockTodo, "id", 2L);
             Comment mockComment = new Comment("testContents", mockUser, mockTodo);
 
             given(commentRepository.findById(anyLong())).willReturn(Optional.of(mockComment));
@@ -69,6 +75,7 @@ class CommentAdminServiceTest {
 
             // then
             verify(commentRepository).deleteById(1L);
+            verify(collectionVersionCounter).increment("comments:2");
         }
 
     }
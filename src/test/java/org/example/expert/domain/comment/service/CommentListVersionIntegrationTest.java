@@ -0,0 +1,119 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 목록 버전(ETag) 통합 테스트 (실제 트랜잭션, H2)
+ * - 먼저 수정한 트랜잭션이 나중에 커밋되는 경우를 별도 스레드(별도 커넥션)의 트랜잭션으로 만듭니다.
+ * - 저장한 데이터가 다른 테스트 컨텍스트의 DB 에 남지 않도록 별도의 in-memory DB 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:comment-list-version-test;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class CommentListVersionIntegrationTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollectionVersionCounter collectionVersionCounter;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("먼저 수정한 댓글이 다른 댓글 수정보다 늦게 커밋되어도, 커밋 후에는 댓글 목록의 ETag 가 바뀐다.")
+    void shouldChangeCommentsEtag_whenEarlierUpdateCommitsLater() throws Exception {
+
+        // given
+        User user = userRepository.save(new User(UUID.randomUUID() + "@email.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        long slowCommentId = commentRepository.save(new Comment("before", user, todo)).getId();
+        long fastCommentId = commentRepository.save(new Comment("before", user, todo)).getId();
+        String url = "/todos/" + todo.getId() + "/comments";
+
+        // 늦게 커밋할 트랜잭션: 댓글 수정 경로와 같이 행을 쓴 뒤 목록 버전을 올리고 커밋하며, 그 사이에서 기다립니다.
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicReference<LocalDateTime> slowModifiedAt = new AtomicReference<>();
+        CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = commentRepository.findById(slowCommentId).orElseThrow();
+            comment.update("slow");
+            commentRepository.flush();
+            slowModifiedAt.set(comment.getModifiedAt());
+            written.countDown();
+            await(commit);
+            collectionVersionCounter.increment(CollectionVersionCounter.comments(todo.getId()));
+        }));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+
+        // 나중에 수정한 댓글이 먼저 커밋되고, 그 상태의 목록과 ETag 를 받아 갑니다.
+        LocalDateTime fastModifiedAt = LocalDateTime.now();
+        commentService.updateComment(authUser, todo.getId(), fastCommentId, null, new CommentUpdateRequest("fast"));
+        assertTrue(slowModifiedAt.get().isBefore(fastModifiedAt));
+        String etag = mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].contents", not(hasItem("slow"))))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        commit.countDown();
+        slowWrite.get(5, TimeUnit.SECONDS);
+
+        // then
+        mockMvc.perform(get(url).header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[*].contents", hasItem("slow")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
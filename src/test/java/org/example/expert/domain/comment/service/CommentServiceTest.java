@@ -1,12 +1,19 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
+import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.OptimisticLockExecutor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -18,16 +25,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommentServiceTest")
@@ -39,6 +54,12 @@ class CommentServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private OptimisticLockExecutor optimisticLockExecutor;
+
+    @Mock
+    private CollectionVersionCounter collectionVersionCounter;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -86,8 +107,71 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(collectionVersionCounter).increment("comments:" + todoId);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("댓글 수정 테스트")
+    class updateComment {
+
+        private final AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        private Comment commentOf(long todoId) {
+            User user = User.fromAuthUser(authUser);
+            Todo todo = new Todo("testTitle", "testContents", "testWeather", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+            Comment comment = new Comment("before", user, todo);
+            ReflectionTestUtils.setField(comment, "id", 10L);
+            ReflectionTestUtils.setField(comment, "version", 3L);
+            return comment;
+        }
+
+        @Test
+        @DisplayName("If-Match 가 현재 버전과 같으면 재시도 없이 수정하고 새 버전을 반환한다.")
+        public void shouldUpdateComment_whenIfMatchMatches() {
+
+            // given
+            given(optimisticLockExecutor.execute(anyBoolean(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+            Comment comment = commentOf(1L);
+            String ifMatch = new ResourceVersion(10L, 3L, null).getEtag();
+            ResourceVersion updatedVersion = new ResourceVersion(10L, 4L, null);
+
+            given(commentRepository.findById(10L)).willReturn(Optional.of(comment));
+            given(commentRepository.findVersionById(10L)).willReturn(Optional.of(updatedVersion));
+
+            // when
+            Versioned<CommentResponse> result = commentService.updateComment(authUser, 1L, 10L, ifMatch, new CommentUpdateRequest("after"));
+
+            // then
+            verify(optimisticLockExecutor).execute(eq(false), any());
+            assertEquals("after", comment.getContents());
+            assertEquals("after", result.getBody().getContents());
+            assertEquals(updatedVersion.getEtag(), result.getVersion().getEtag());
+            verify(collectionVersionCounter).increment("comments:1");
         }
 
+        @Test
+        @DisplayName("다른 일정의 댓글이면 NOT_FOUND_COMMENT 예외를 던진다.")
+        public void shouldThrowNotFound_whenCommentBelongsToOtherTodo() {
+
+            // given
+            given(optimisticLockExecutor.execute(anyBoolean(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+            Comment comment = commentOf(2L);
+
+            given(commentRepository.findById(10L)).willReturn(Optional.of(comment));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    commentService.updateComment(authUser, 1L, 10L, null, new CommentUpdateRequest("after")));
+
+            // then
+            assertEquals(ExceptionCode.NOT_FOUND_COMMENT, exception.getExceptionCode());
+            assertEquals("before", comment.getContents());
+        }
     }
 
     @Nested
@@ -99,7 +183,7 @@ class CommentServiceTest {
         public void shouldReturnEmptyList_whenNoCommentsExist() {
 
             // given
-            given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(Collections.emptyList());
+            given(commentRepository.findCommentResponsesByTodoId(anyLong())).willReturn(Collections.emptyList());
 
             // when
             List<CommentResponse> result = commentService.getComments(1L);
@@ -114,12 +198,9 @@ class CommentServiceTest {
         public void shouldReturnCommentList_whenCommentsExist() {
 
             // given
-            AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            Todo mockTodo = new Todo("testTitle", "testContents", "testWeather", mockUser);
-            Comment mockComment = new Comment("testContents", mockUser, mockTodo);
+            CommentResponse mockComment = new CommentResponse(1L, "testContents", 1L, "test@email.com");
 
-            given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(List.of(mockComment));
+            given(commentRepository.findCommentResponsesByTodoId(anyLong())).willReturn(List.of(mockComment));
 
             // when
             List<CommentResponse> result = commentService.getComments(1L);
@@ -129,5 +210,81 @@ class CommentServiceTest {
             assertThat(result.get(0).getUser().getEmail()).isEqualTo("test@email.com");
         }
 
+        @Test
+        @DisplayName("댓글 목록 버전은 일정별 댓글 목록 카운터로 만든 ETag 만 갖는다.")
+        public void shouldReturnCommentsVersionWithoutLastModified() {
+
+            // given
+            ResourceVersion version = new ResourceVersion(3L);
+            given(collectionVersionCounter.getVersion("comments:1")).willReturn(version);
+
+            // when
+            ResourceVersion result = commentService.getCommentsVersion(1L);
+
+            // then
+            assertThat(result.getEtag()).isEqualTo(version.getEtag());
+            assertThat(result.getLastModified()).isEqualTo(-1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("댓글 커서 기반 조회 테스트")
+    class getCommentsByCursor {
+
+        @Test
+        @DisplayName("size 보다 많이 조회되면 마지막 댓글 id 를 다음 커서로 돌려준다.")
+        public void shouldReturnNextCursor_whenMoreCommentsExist() {
+
+            // given
+            List<CommentResponse> comments = List.of(
+                    new CommentResponse(11L, "first", 1L, "test@email.com"),
+                    new CommentResponse(12L, "second", 1L, "test@email.com"),
+                    new CommentResponse(13L, "third", 1L, "test@email.com")
+            );
+            given(commentRepository.findCommentResponsesAfter(1L, 10L, PageRequest.of(0, 3))).willReturn(comments);
+
+            // when
+            CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(1L, "10", 2);
+
+            // then
+            assertThat(result.getContent()).extracting(CommentResponse::getId).containsExactly(11L, 12L);
+            assertThat(result.getNextCursor()).isEqualTo("12");
+        }
+
+        @Test
+        @DisplayName("커서가 숫자가 아니면 예외를 던진다.")
+        public void shouldThrowException_whenCursorIsInvalid() {
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    commentService.getCommentsByCursor(1L, "abc", 20));
+
+            // then
+            assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 스트리밍 조회 테스트")
+    class streamComments {
+
+        @Test
+        @DisplayName("조회된 댓글을 순서대로 consumer 에 전달한다.")
+        public void shouldPassCommentsToConsumerInOrder() {
+
+            // given
+            given(commentRepository.streamCommentResponsesByTodoId(1L)).willReturn(Stream.of(
+                    new CommentResponse(1L, "first", 1L, "test@email.com"),
+                    new CommentResponse(2L, "second", 1L, "test@email.com")
+            ));
+            List<Long> received = new ArrayList<>();
+
+            // when
+            commentService.streamComments(1L, comment -> received.add(comment.getId()));
+
+            // then
+            assertThat(received).containsExactly(1L, 2L);
+        }
     }
 }
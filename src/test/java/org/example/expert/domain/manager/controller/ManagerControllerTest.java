@@ -5,6 +5,7 @@ import io.jsonwebtoken.Claims;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.common.dto.AuthUser;
 import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.example.expert.domain.user.enums.UserRole;
@@ -15,6 +16,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,6 +64,47 @@ class ManagerControllerTest {
         verify(managerService).saveManager(any(AuthUser.class), eq(todoId), any(ManagerSaveRequest.class));
     }
 
+    @Test
+    @DisplayName("매니저 일괄 등록 성공")
+    public void shouldSaveManagersSuccessfully() throws Exception {
+
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L));
+
+        // when
+        mockMvc.perform(post("/todos/" + todoId + "/managers/bulk")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(managerService).saveManagers(any(AuthUser.class), eq(todoId), any(ManagerBulkSaveRequest.class));
+    }
+
+    @Test
+    @DisplayName("매니저 일괄 등록 시 id 목록이 비어 있으면 400 을 반환한다.")
+    public void shouldReturnBadRequest_whenManagerUserIdsEmpty() throws Exception {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of());
+
+        // when & then
+        mockMvc.perform(post("/todos/1/managers/bulk")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("매니저 조회 성공")
     public void shouldGetManagersSuccessfully() throws Exception {
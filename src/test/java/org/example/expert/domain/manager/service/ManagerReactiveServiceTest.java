@@ -0,0 +1,59 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerReactiveRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ManagerReactiveServiceTest")
+class ManagerReactiveServiceTest {
+
+    @Mock
+    private ManagerReactiveRepository managerReactiveRepository;
+    @InjectMocks
+    private ManagerReactiveService managerReactiveService;
+
+    @Test
+    @DisplayName("일정이 없으면 NOT_FOUND_TODO 예외가 발생한다.")
+    void shouldThrow_whenTodoNotFound() {
+
+        // given
+        given(managerReactiveRepository.findManagerResponsesFromTodo(1L)).willReturn(Flux.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerReactiveService.getManagers(1L).collectList().block());
+
+        // then
+        assertEquals(ExceptionCode.NOT_FOUND_TODO, exception.getExceptionCode());
+    }
+
+    @Test
+    @DisplayName("담당자가 없는 일정은 빈 목록을 반환한다.")
+    void shouldReturnEmptyList_whenTodoHasNoManager() {
+
+        // given
+        given(managerReactiveRepository.findManagerResponsesFromTodo(1L))
+                .willReturn(Flux.just(new ManagerResponse(null, null, null)));
+
+        // when
+        List<ManagerResponse> result = managerReactiveService.getManagers(1L).collectList().block();
+
+        // then
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+    }
+}
@@ -1,14 +1,22 @@
 package org.example.expert.domain.manager.service;
 
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.ResourceVersion;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagerDeleteTarget;
+import org.example.expert.domain.manager.dto.ManagerSaveTarget;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerAssignResult;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -21,12 +29,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,11 +63,13 @@ class ManagerServiceTest {
         public void shouldThrowException_whenTodoDoesNotExist() {
 
             // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
             long todoId = 1L;
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(managerRepository.findSaveTarget(todoId, 2L)).willReturn(Optional.empty());
 
             // when & then
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.saveManager(authUser, todoId, new ManagerSaveRequest(2L)));
             assertEquals("일정이 존재하지 않습니다.", exception.getMessage());
         }
 
@@ -68,12 +82,10 @@ class ManagerServiceTest {
             long todoId = 1L;
             long managerUserId = 2L;
 
-            Todo todo = new Todo();
-            ReflectionTestUtils.setField(todo, "user", null);
-
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(managerRepository.findSaveTarget(todoId, managerUserId))
+                    .willReturn(Optional.of(new ManagerSaveTarget(null, managerUserId, "b@b.com")));
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -89,12 +101,10 @@ class ManagerServiceTest {
 
             // given
             AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            Todo mockTodo = new Todo("title", "contents", "weather", mockUser);
             long todoId = 1L;
 
-            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
-            given(userRepository.findById(any())).willReturn(Optional.empty());
+            given(managerRepository.findSaveTarget(any(), any()))
+                    .willReturn(Optional.of(new ManagerSaveTarget(1L, null, null)));
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -111,13 +121,11 @@ class ManagerServiceTest {
 
             // given
             AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            Todo mockTodo = new Todo("title", "contents", "weather", mockUser);
             ManagerSaveRequest request = new ManagerSaveRequest(1L);
             long todoId = 1L;
 
-            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
-            given(userRepository.findById(any())).willReturn(Optional.of(mockUser));
+            given(managerRepository.findSaveTarget(todoId, 1L))
+                    .willReturn(Optional.of(new ManagerSaveTarget(1L, 1L, "a@a.com")));
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -145,8 +153,10 @@ class ManagerServiceTest {
 
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+            given(managerRepository.findSaveTarget(todoId, managerUserId))
+                    .willReturn(Optional.of(new ManagerSaveTarget(user.getId(), managerUserId, managerUser.getEmail())));
+            given(userRepository.getReferenceById(managerUserId)).willReturn(managerUser);
+            given(todoRepository.getReferenceById(todoId)).willReturn(todo);
             given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -160,25 +170,112 @@ class ManagerServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("매니저 일괄 저장 테스트")
+    class saveManagers {
+
+        @Test
+        @DisplayName("작성자가 아니면 예외가 발생한다.")
+        public void shouldThrowException_whenUserIsNotWriter() {
+
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(9L));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.saveManagers(authUser, 1L, new ManagerBulkSaveRequest(List.of(2L))));
+            assertEquals("일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("등록 가능한 유저만 한 번에 저장하고 id 별 결과를 요청 순서대로 반환한다.")
+        public void shouldSaveOnlyAssignableUsers_andReturnResultPerId() {
+
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            long todoId = 1L;
+            // 2: 등록, 3: 없는 유저, 1: 작성자 본인, 4: 이미 담당자, 2: 요청 내 중복, 5: 등록
+            List<Long> requestIds = List.of(2L, 3L, 1L, 4L, 2L, 5L);
+
+            given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
+            given(userRepository.findUserResponsesByIdIn(any())).willReturn(List.of(
+                    new UserResponse(1L, "a@a.com"),
+                    new UserResponse(2L, "b@b.com"),
+                    new UserResponse(4L, "d@d.com"),
+                    new UserResponse(5L, "e@e.com")
+            ));
+            given(managerRepository.findAssignedUserIds(eq(todoId), any())).willReturn(List.of(1L, 4L));
+            given(managerRepository.saveAll(anyList())).willAnswer(invocation -> {
+                List<Manager> managers = invocation.getArgument(0);
+                for (int i = 0; i < managers.size(); i++) {
+                    ReflectionTestUtils.setField(managers.get(i), "id", 10L + i);
+                }
+                return managers;
+            });
+
+            // when
+            ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(requestIds));
+
+            // then
+            assertEquals(2, response.getAssignedCount());
+            assertEquals(List.of(
+                    ManagerAssignStatus.ASSIGNED,
+                    ManagerAssignStatus.USER_NOT_FOUND,
+                    ManagerAssignStatus.SELF_ASSIGNMENT,
+                    ManagerAssignStatus.ALREADY_ASSIGNED,
+                    ManagerAssignStatus.DUPLICATE_IN_REQUEST,
+                    ManagerAssignStatus.ASSIGNED
+            ), response.getResults().stream().map(ManagerAssignResult::getStatus).toList());
+            assertEquals(10L, response.getResults().get(0).getId());
+            assertEquals(11L, response.getResults().get(5).getId());
+            assertEquals("e@e.com", response.getResults().get(5).getUser().getEmail());
+        }
+    }
+
     @Nested
     @DisplayName("매니저 조회 테스트")
     class getManagers {
 
+        @Test
+        @DisplayName("todo가 존재하지 않으면 예외가 발생한다.")
+        public void shouldThrowException_whenTodoDoesNotExist() {
+
+            // given
+            long todoId = 1L;
+            given(managerRepository.findManagerResponsesFromTodo(todoId)).willReturn(List.of());
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
+            assertEquals("일정이 존재하지 않습니다.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("담당자가 없는 todo는 빈 리스트를 반환한다.")
+        public void shouldReturnEmptyList_whenNoManagers() {
+
+            // given
+            long todoId = 1L;
+            given(managerRepository.findManagerResponsesFromTodo(todoId))
+                    .willReturn(List.of(new ManagerResponse(null, null, null)));
+
+            // when
+            List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+            // then
+            assertTrue(managerResponses.isEmpty());
+        }
+
         @Test
         @DisplayName("매니저 목록 조회에 성공한다.")
         public void shouldReturnManagerList_whenManagersExist() {
 
             // given
             long todoId = 1L;
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
+            ManagerResponse mockManager = new ManagerResponse(1L, 1L, "user1@example.com");
+            List<ManagerResponse> managerList = List.of(mockManager);
 
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
-
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            given(managerRepository.findManagerResponsesFromTodo(todoId)).willReturn(managerList);
 
             // when
             List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -188,23 +285,56 @@ class ManagerServiceTest {
             assertEquals(mockManager.getId(), managerResponses.get(0).getId());
             assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
         }
+
+        @Test
+        @DisplayName("담당자 목록 버전은 삭제를 알 수 없는 Last-Modified 없이 ETag 만 갖는다.")
+        public void shouldReturnManagersVersionWithoutLastModified() {
+
+            // given
+            long todoId = 1L;
+            ResourceVersion version = new ResourceVersion(2L, 11L, LocalDateTime.of(2024, 1, 1, 12, 0));
+            given(managerRepository.findManagersVersion(todoId)).willReturn(Optional.of(version));
+
+            // when
+            Optional<ResourceVersion> result = managerService.getManagersVersion(todoId);
+
+            // then
+            assertTrue(result.isPresent());
+            assertEquals(version.getEtag(), result.get().getEtag());
+            assertEquals(-1, result.get().getLastModified());
+        }
     }
 
     @Nested
     @DisplayName("매니저 삭제 테스트")
     class deleteManager {
 
+        @Test
+        @DisplayName("요청한 유저가 존재하지 않으면 예외가 발생한다")
+        public void shouldThrowException_whenUserDoesNotExist() {
+
+            // given
+            given(managerRepository.deleteIfOwnedBy(any(), any(), any())).willReturn(0);
+            given(managerRepository.findDeleteTarget(1L, 1L, 2L))
+                    .willReturn(Optional.of(new ManagerDeleteTarget(null, 1L, 2L, 1L)));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+                managerService.deleteManager(1L, 1L, 2L);
+            });
+
+            // then
+            assertEquals("사용자가 존재하지 않습니다.", exception.getMessage());
+        }
+
         @Test
         @DisplayName("todo의 user가 null인 경우 예외가 발생한다")
         public void shouldThrowException_whenTodoUserIsNull() {
 
             // given
-            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            Todo mockTodo = new Todo("title", "contents", "weather", null); // 작성자 null
-
-            given(userRepository.findById(any())).willReturn(Optional.of(mockUser));
-            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
+            given(managerRepository.deleteIfOwnedBy(any(), any(), any())).willReturn(0);
+            given(managerRepository.findDeleteTarget(any(), any(), any()))
+                    .willReturn(Optional.of(new ManagerDeleteTarget(1L, null, 2L, 1L)));
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -216,18 +346,30 @@ class ManagerServiceTest {
         }
 
         @Test
-        @DisplayName("todo 작성자와 요청한 유저가 다를 경우 예외가 발생한다")
-        public void shouldThrowException_whenUserIsNotWriter() {
+        @DisplayName("todo가 존재하지 않으면 예외가 발생한다")
+        public void shouldThrowException_whenTodoDoesNotExist() {
 
-            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User requestUser = User.fromAuthUser(authUser);
+            // given
+            given(managerRepository.deleteIfOwnedBy(any(), any(), any())).willReturn(0);
+            given(managerRepository.findDeleteTarget(any(), any(), any())).willReturn(Optional.empty());
 
-            User todoOwner = new User("owner@email.com", "1234", UserRole.USER);
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+                managerService.deleteManager(1L, 1L, 2L);
+            });
 
-            Todo mockTodo = new Todo("title", "contents", "weather", todoOwner);
+            // then
+            assertEquals("일정이 존재하지 않습니다.", exception.getMessage());
+        }
 
-            given(userRepository.findById(any())).willReturn(Optional.of(requestUser));
-            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
+        @Test
+        @DisplayName("todo 작성자와 요청한 유저가 다를 경우 예외가 발생한다")
+        public void shouldThrowException_whenUserIsNotWriter() {
+
+            // given
+            given(managerRepository.deleteIfOwnedBy(any(), any(), any())).willReturn(0);
+            given(managerRepository.findDeleteTarget(any(), any(), any()))
+                    .willReturn(Optional.of(new ManagerDeleteTarget(1L, 3L, 2L, 1L)));
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -242,21 +384,9 @@ class ManagerServiceTest {
         @DisplayName("매니저가 해당 todo에 속하지 않으면 예외가 발생한다.")
         public void shouldThrowException_whenManagerIsNotAssignedToTodo() {
             // given
-            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User requestUser = User.fromAuthUser(authUser);
-
-            Todo requestTodo = new Todo("request-todo", "content", "weather", requestUser);
-            ReflectionTestUtils.setField(requestTodo, "id", 100L);
-
-            Todo managerTodo = new Todo("manager-todo", "content", "weather", requestUser);
-            ReflectionTestUtils.setField(managerTodo, "id", 200L);
-
-            User managerUser = new User("manager@email.com", "1234", UserRole.USER);
-            Manager manager = new Manager(managerUser, managerTodo);
-
-            given(userRepository.findById(any())).willReturn(Optional.of(requestUser));
-            given(todoRepository.findById(any())).willReturn(Optional.of(requestTodo));
-            given(managerRepository.findById(any())).willReturn(Optional.of(manager));
+            given(managerRepository.deleteIfOwnedBy(any(), any(), any())).willReturn(0);
+            given(managerRepository.findDeleteTarget(1L, 100L, 2L))
+                    .willReturn(Optional.of(new ManagerDeleteTarget(1L, 1L, 2L, 200L)));
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -272,21 +402,13 @@ class ManagerServiceTest {
         public void shouldDeleteManager_whenValidInput() {
 
             // given
-            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            User mockManagerUser = new User("test@email.com", "1234", UserRole.USER);
-            Todo mockTodo = new Todo("title", "contents", "weather", mockUser);
-            Manager mockManager = new Manager(mockManagerUser, mockTodo);
-
-            given(userRepository.findById(any())).willReturn(Optional.of(mockUser));
-            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
-            given(managerRepository.findById(any())).willReturn(Optional.of(mockManager));
+            given(managerRepository.deleteIfOwnedBy(1L, 1L, 2L)).willReturn(1);
 
             // when
             managerService.deleteManager(1L, 1L, 2L);
 
             // then
-            verify(managerRepository).delete(mockManager);
+            verify(managerRepository, never()).findDeleteTarget(any(), any(), any());
         }
     }
 
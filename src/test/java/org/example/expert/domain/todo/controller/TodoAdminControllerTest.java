@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TodoAdminController.class)
+class TodoAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @Test
+    @DisplayName("일정 내보내기 요청 성공 (일정마다 한 줄)")
+    public void shouldExportTodosAsNdjson() throws Exception {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        willAnswer(invocation -> {
+            Consumer<TodoExportResponse> consumer = invocation.getArgument(0);
+            consumer.accept(new TodoExportResponse(new TodoResponse(1L, "t1", "c1", "Sunny", 1L, "a@a.com", now, now), List.of(), List.of()));
+            consumer.accept(new TodoExportResponse(new TodoResponse(2L, "t2", "c2", "Sunny", 1L, "a@a.com", now, now), List.of(), List.of()));
+            return null;
+        }).given(todoExportService).exportTodos(any());
+
+        // when & then
+        mockMvc.perform(get("/admin/todos/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(allOf(
+                        startsWith("{\"id\":1,\"title\":\"t1\""),
+                        containsString("\"comments\":[],\"managers\":[]}\n{\"id\":2,"),
+                        endsWith("\"managers\":[]}\n"))))
+                .andDo(print());
+    }
+}
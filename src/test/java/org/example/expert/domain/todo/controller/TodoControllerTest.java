@@ -2,7 +2,13 @@ package org.example.expert.domain.todo.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoImportFormat;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -10,14 +16,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TodoController.class)
@@ -26,6 +43,9 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoImportService todoImportService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -54,6 +74,29 @@ class TodoControllerTest {
         verify(todoService).saveTodo(any(AuthUser.class), any(TodoSaveRequest.class));
     }
 
+    @Test
+    @DisplayName("할 일 NDJSON 가져오기 요청 성공")
+    public void shouldImportTodosSuccessfully() throws Exception {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        String body = "{\"title\":\"t1\",\"contents\":\"c1\"}\n";
+
+        // when
+        mockMvc.perform(post("/todos/import")
+                .param("batchSize", "100")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body)
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(todoImportService).importTodos(any(AuthUser.class), any(Reader.class), eq(TodoImportFormat.NDJSON), eq(100));
+    }
+
     @Test
     @DisplayName("할 일 전체 조회 요청 성공")
     public void shouldGetTodosSuccessfully() throws Exception {
@@ -63,6 +106,8 @@ class TodoControllerTest {
         int page = 1;
         int size = 10;
 
+        given(todoService.getTodosVersion()).willReturn(new ResourceVersion(0L));
+
         // when
         mockMvc.perform(get("/todos")
                 .contentType("application/json")
@@ -76,6 +121,51 @@ class TodoControllerTest {
         verify(todoService).getTodos(page, size);
     }
 
+    @Test
+    @DisplayName("할 일 커서 기반 조회 요청 성공")
+    public void shouldGetTodosByCursorSuccessfully() throws Exception {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        String cursor = "MjAyNC0wOS0wMVQxMjowMHwxMA";
+
+        // when
+        mockMvc.perform(get("/todos")
+                .param("cursor", cursor)
+                .param("size", "20")
+                .contentType("application/json")
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        verify(todoService).getTodosByCursor(cursor, 20);
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since 이후 수정되지 않았으면 할 일을 조회하지 않고 304 를 반환한다.")
+    public void shouldReturnNotModified_whenTodoNotModifiedSince() throws Exception {
+
+        // given
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ResourceVersion version = new ResourceVersion(todoId, 0L, modifiedAt);
+        given(todoService.getTodoVersion(todoId)).willReturn(version);
+
+        // when
+        mockMvc.perform(get("/todos/" + todoId)
+                .header("If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME
+                        .format(modifiedAt.atZone(ZoneId.systemDefault()))))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", version.getEtag()))
+                .andDo(print());
+
+        // then
+        verify(todoService, never()).getTodo(anyLong(), any(ResourceVersion.class));
+    }
+
     @Test
     @DisplayName("할 일 단건 조회 요청 성공")
     public void shouldGetTodoSuccessfully() throws Exception {
@@ -83,6 +173,11 @@ class TodoControllerTest {
         // given
         long todoId = 1L;
         AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        ResourceVersion version = new ResourceVersion(todoId, 0L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        TodoResponse todoResponse = new TodoResponse(todoId, "title", "contents", "Sunny",
+                authUser.getId(), authUser.getEmail(), LocalDateTime.of(2024, 1, 1, 12, 0), LocalDateTime.of(2024, 1, 1, 12, 0));
+        given(todoService.getTodoVersion(todoId)).willReturn(version);
+        given(todoService.getTodo(todoId, version)).willReturn(new Versioned<>(todoResponse, version));
 
         // when
         mockMvc.perform(get("/todos/" + todoId)
@@ -91,10 +186,57 @@ class TodoControllerTest {
                 .requestAttr("email", authUser.getEmail())
                 .requestAttr("userRole", authUser.getUserRole().name()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.getEtag()))
                 .andDo(print());
 
         // then
-        verify(todoService).getTodo(anyLong());
+        verify(todoService).getTodo(todoId, version);
+    }
+
+
+    @Test
+    @DisplayName("할 일 수정 요청은 If-Match 를 서비스에 넘기고 수정 후 ETag 를 응답한다.")
+    public void shouldUpdateTodoWithIfMatch() throws Exception {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest("new title", null);
+        ResourceVersion updatedVersion = new ResourceVersion(1L, 2L, LocalDateTime.now());
+        TodoResponse body = new TodoResponse(1L, "new title", "contents", "weather", null, null, null);
+
+        given(todoService.updateTodo(any(AuthUser.class), eq(1L), eq("\"1-1-0\""), any(TodoUpdateRequest.class)))
+                .willReturn(new Versioned<>(body, updatedVersion));
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", 1L)
+                .contentType("application/json")
+                .header("If-Match", "\"1-1-0\"")
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", updatedVersion.getEtag()))
+                .andDo(print());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("할 일 수정 요청의 제목이 공백이면 400 을 반환한다.")
+    public void shouldRejectBlankTitleOnUpdate() throws Exception {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest(" ", null);
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", 1L)
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(request))
+                .requestAttr("userId", authUser.getId())
+                .requestAttr("email", authUser.getEmail())
+                .requestAttr("userRole", authUser.getUserRole().name()))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).updateTodo(any(), anyLong(), any(), any());
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoReactiveService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TodoReactiveController.class)
+class TodoReactiveControllerTest {
+
+    @MockBean
+    private TodoReactiveService todoReactiveService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("논블로킹 일정 단건 조회 요청 성공")
+    public void shouldGetTodoAsynchronously() throws Exception {
+
+        // given
+        long todoId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        given(todoReactiveService.getTodo(todoId)).willReturn(Mono.just(
+                new TodoResponse(todoId, "title", "contents", "Sunny", new UserResponse(1L, "test@email.com"), now, now)));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/reactive/todos/" + todoId)
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "test@email.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(todoId))
+                .andExpect(jsonPath("$.user.email").value("test@email.com"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("논블로킹 일정 단건 조회 시 일정이 없으면 404 를 반환한다.")
+    public void shouldReturnNotFound_whenTodoNotFound() throws Exception {
+
+        // given
+        long todoId = 1L;
+        given(todoReactiveService.getTodo(todoId))
+                .willReturn(Mono.error(new InvalidRequestException(ExceptionCode.NOT_FOUND_TODO)));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/reactive/todos/" + todoId)
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "test@email.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND_TODO"))
+                .andDo(print());
+    }
+}
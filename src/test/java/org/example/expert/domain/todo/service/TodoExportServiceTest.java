@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.CommentExportRow;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.ManagerExportRow;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TodoExportServiceTest")
+class TodoExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @InjectMocks
+    private TodoExportService todoExportService;
+
+    @Test
+    @DisplayName("일정 id 순으로 댓글과 담당자를 병합해 일정마다 한 번씩 전달하고 스트림을 모두 닫는다.")
+    void shouldMergeCommentsAndManagersByTodoId() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger closed = new AtomicInteger();
+        given(todoRepository.streamAllTodoResponses()).willReturn(Stream.of(
+                new TodoResponse(1L, "t1", "c1", "Sunny", 1L, "a@a.com", now, now),
+                new TodoResponse(2L, "t2", "c2", "Sunny", 1L, "a@a.com", now, now),
+                new TodoResponse(4L, "t4", "c4", "Sunny", 2L, "b@b.com", now, now)
+        ).onClose(closed::incrementAndGet));
+        given(commentRepository.streamCommentExportRows()).willReturn(Stream.of(
+                new CommentExportRow(1L, 10L, "comment1", 2L, "b@b.com"),
+                new CommentExportRow(1L, 11L, "comment2", 1L, "a@a.com"),
+                new CommentExportRow(3L, 12L, "orphan", 1L, "a@a.com"),
+                new CommentExportRow(4L, 13L, "comment3", 1L, "a@a.com")
+        ).onClose(closed::incrementAndGet));
+        given(managerRepository.streamManagerExportRows()).willReturn(Stream.of(
+                new ManagerExportRow(1L, 20L, 1L, "a@a.com"),
+                new ManagerExportRow(2L, 21L, 1L, "a@a.com"),
+                new ManagerExportRow(4L, 22L, 2L, "b@b.com")
+        ).onClose(closed::incrementAndGet));
+
+        // when
+        List<TodoExportResponse> exported = new ArrayList<>();
+        todoExportService.exportTodos(exported::add);
+
+        // then
+        assertEquals(List.of(1L, 2L, 4L), exported.stream().map(TodoExportResponse::getId).toList());
+        assertEquals(List.of(10L, 11L), exported.get(0).getComments().stream().map(c -> c.getId()).toList());
+        assertTrue(exported.get(1).getComments().isEmpty());
+        assertEquals(List.of(13L), exported.get(2).getComments().stream().map(c -> c.getId()).toList());
+        assertEquals(21L, exported.get(1).getManagers().get(0).getId());
+        assertEquals("b@b.com", exported.get(2).getManagers().get(0).getUser().getEmail());
+        assertEquals(3, closed.get());
+    }
+}
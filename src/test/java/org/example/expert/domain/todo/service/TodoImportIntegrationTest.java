@@ -0,0 +1,171 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoImportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 가져오기 저장 경로 통합 테스트 (실제 EntityManager, H2)
+ * - 저장한 데이터가 다른 테스트 컨텍스트의 DB 에 남지 않도록 별도의 in-memory DB 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:todo-import-test;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TodoImportIntegrationTest {
+
+    private static final int LINE_COUNT = 25;
+    private static final int BATCH_SIZE = 10;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TodoImportService todoImportService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(UUID.randomUUID() + "@email.com", "password", UserRole.USER));
+    }
+
+    @Test
+    @DisplayName("OSIV 처럼 EntityManager 를 공유해도 청크를 저장할 때마다 영속성 컨텍스트가 비워진다.")
+    void shouldClearPersistenceContext_afterEachChunk() {
+
+        // given
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+
+        // 줄마다 날짜가 달라 날씨를 줄마다 조회하므로, 조회 시점마다 영속성 컨텍스트의 엔티티 수를 기록합니다.
+        List<Integer> managedEntityCounts = new CopyOnWriteArrayList<>();
+        given(weatherClient.getWeather(any(LocalDate.class))).willAnswer(invocation -> {
+            managedEntityCounts.add(entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            return "Sunny";
+        });
+        long before = todoRepository.count();
+
+        try {
+            // when
+            TodoImportResponse response = todoImportService.importTodos(
+                    new AuthUser(user.getId(), user.getEmail(), user.getUserRole()),
+                    new StringReader(ndjson()), TodoImportFormat.NDJSON, BATCH_SIZE);
+
+            // then
+            assertEquals(LINE_COUNT, response.getImportedCount());
+            assertEquals(LINE_COUNT, managedEntityCounts.size());
+            assertTrue(managedEntityCounts.stream().allMatch(count -> count == 0), managedEntityCounts::toString);
+            assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+        assertEquals(before + LINE_COUNT, todoRepository.count());
+    }
+
+    @Test
+    @DisplayName("가져오기 요청은 OSIV 에서 제외되어, 날씨를 조회하는 동안 요청에 묶인 EntityManager 가 없다.")
+    void shouldNotBindEntityManager_duringImportRequest() throws Exception {
+
+        // given
+        List<Boolean> entityManagerBound = new CopyOnWriteArrayList<>();
+        given(weatherClient.getWeather(any(LocalDate.class))).willAnswer(invocation -> {
+            entityManagerBound.add(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return "Sunny";
+        });
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+
+        // when
+        mockMvc.perform(post("/todos/import")
+                        .header("Authorization", token)
+                        .param("batchSize", String.valueOf(BATCH_SIZE))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(LINE_COUNT));
+
+        // then
+        assertEquals(LINE_COUNT, entityManagerBound.size());
+        assertFalse(entityManagerBound.contains(true));
+    }
+
+    @Test
+    @DisplayName("DB 제약을 위반한 청크는 실패한 줄로 집계되고, 다른 청크와 줄 단위로 거른 줄은 결과에 반영된다.")
+    void shouldCountChunkAsFailed_whenDatabaseRejectsIt() {
+
+        // given
+        // 2번째 청크(11~20번째 줄)의 한 줄만 weather 컬럼 길이(255)를 넘겨 DB 에서 insert 가 거부됩니다.
+        LocalDate rejectedDate = LocalDate.of(2024, 1, 1).plusDays(14);
+        given(weatherClient.getWeather(any(LocalDate.class))).willAnswer(invocation ->
+                rejectedDate.equals(invocation.getArgument(0)) ? "w".repeat(300) : "Sunny");
+        String body = ndjson() + "{\"title\":\"" + "t".repeat(300) + "\",\"contents\":\"c\",\"date\":\"2024-01-01\"}\n";
+        long before = todoRepository.count();
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(
+                new AuthUser(user.getId(), user.getEmail(), user.getUserRole()),
+                new StringReader(body), TodoImportFormat.NDJSON, BATCH_SIZE);
+
+        // then
+        assertEquals(LINE_COUNT - BATCH_SIZE, response.getImportedCount());
+        assertEquals(BATCH_SIZE + 1, response.getFailedCount());
+        assertEquals(11, response.getErrors().get(0).getLine());
+        assertEquals("저장에 실패했습니다.", response.getErrors().get(0).getMessage());
+        assertEquals(LINE_COUNT + 1, response.getErrors().get(BATCH_SIZE).getLine());
+        assertEquals("제목은 255자 이하여야 합니다.", response.getErrors().get(BATCH_SIZE).getMessage());
+        assertEquals(before + LINE_COUNT - BATCH_SIZE, todoRepository.count());
+    }
+
+    private static String ndjson() {
+        StringBuilder sb = new StringBuilder();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            sb.append("{\"title\":\"title").append(i)
+                    .append("\",\"contents\":\"contents").append(i)
+                    .append("\",\"date\":\"").append(date.plusDays(i)).append("\"}\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TodoImportServiceTest")
+class TodoImportServiceTest {
+
+    @Mock
+    private TodoImportWriter todoImportWriter;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    private TodoImportService todoImportService;
+
+    private final AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        todoImportService = new TodoImportService(todoImportWriter, weatherClient, objectMapper, 500);
+    }
+
+    @Test
+    @DisplayName("NDJSON 을 batchSize 단위로 저장하고, 날씨는 날짜별로 한 번만 조회하며 잘못된 줄은 결과에 담는다.")
+    void shouldImportNdjsonInChunks() {
+
+        // given
+        String body = """
+                {"title":"t1","contents":"c1","date":"2024-01-01"}
+                {"title":"t2","contents":"c2","date":"2024-01-01"}
+
+                {"title":"t3",
+                {"title":"","contents":"c4"}
+                {"title":"t5","contents":"c5","date":"2024-01-02"}
+                """;
+        given(weatherClient.getWeather(LocalDate.of(2024, 1, 1))).willReturn("Sunny");
+        given(weatherClient.getWeather(LocalDate.of(2024, 1, 2))).willReturn("Rainy");
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<String> weathers = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<Todo> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            chunk.forEach(todo -> weathers.add(todo.getWeather()));
+            return null;
+        }).given(todoImportWriter).write(anyList());
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, new StringReader(body), TodoImportFormat.NDJSON, 2);
+
+        // then
+        assertEquals(3, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(4, response.getErrors().get(0).getLine());
+        assertEquals(5, response.getErrors().get(1).getLine());
+        assertEquals("제목은 필수 입력값입니다.", response.getErrors().get(1).getMessage());
+        assertEquals(List.of(2, 1), chunkSizes);
+        assertEquals(List.of("Sunny", "Sunny", "Rainy"), weathers);
+        verify(weatherClient, times(1)).getWeather(LocalDate.of(2024, 1, 1));
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더로 컬럼을 찾고 따옴표로 감싼 필드를 읽으며, 날씨 조회 실패는 해당 줄의 오류가 된다.")
+    void shouldImportCsvWithQuotedFields() {
+
+        // given
+        String body = """
+                contents,title,date
+                "a, ""quoted"" text",t1,2024-01-01
+                c2,t2,2024-02-30
+                c3,t3,2024-03-01
+                """;
+        given(weatherClient.getWeather(LocalDate.of(2024, 1, 1))).willReturn("Sunny");
+        given(weatherClient.getWeather(LocalDate.of(2024, 3, 1)))
+                .willThrow(new ServerException(ExceptionCode.TODAY_WEATHER_NOT_FOUND));
+
+        List<Todo> saved = new ArrayList<>();
+        willAnswer(invocation -> saved.addAll(invocation.getArgument(0)))
+                .given(todoImportWriter).write(anyList());
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, new StringReader(body), TodoImportFormat.CSV, null);
+
+        // then
+        assertEquals(1, response.getImportedCount());
+        assertEquals("t1", saved.get(0).getTitle());
+        assertEquals("a, \"quoted\" text", saved.get(0).getContents());
+        assertEquals(3, response.getErrors().get(0).getLine());
+        assertEquals(4, response.getErrors().get(1).getLine());
+        assertEquals(ExceptionCode.TODAY_WEATHER_NOT_FOUND.getMessage(), response.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 title 이나 contents 가 없으면 예외가 발생한다.")
+    void shouldThrow_whenCsvHeaderIsInvalid() {
+
+        // given
+        String body = "name,contents\nt1,c1\n";
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoImportService.importTodos(authUser, new StringReader(body), TodoImportFormat.CSV, null));
+        assertEquals(ExceptionCode.INVALID_IMPORT_FORMAT, exception.getExceptionCode());
+        verify(todoImportWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 줄(null, 숫자, 배열)은 형식 오류로 집계하고 나머지 줄은 저장한다.")
+    void shouldCountNonObjectJsonLinesAsMalformed() {
+
+        // given
+        String body = """
+                null
+                123
+                ["t","c"]
+                {"title":"t4","contents":"c4","date":"2024-01-01"}
+                """;
+        given(weatherClient.getWeather(LocalDate.of(2024, 1, 1))).willReturn("Sunny");
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, new StringReader(body), TodoImportFormat.NDJSON, null);
+
+        // then
+        assertEquals(1, response.getImportedCount());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(List.of(1L, 2L, 3L), response.getErrors().stream().map(TodoImportError::getLine).toList());
+        assertTrue(response.getErrors().stream().allMatch(error -> error.getMessage().equals("JSON 형식이 올바르지 않습니다.")));
+        verify(todoImportWriter, times(1)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("제목이나 내용이 컬럼 길이를 넘는 줄은 저장하지 않고 실패한 줄로 집계한다.")
+    void shouldCountTooLongLinesAsFailed() {
+
+        // given
+        String body = "{\"title\":\"" + "a".repeat(256) + "\",\"contents\":\"c1\",\"date\":\"2024-01-01\"}\n"
+                + "{\"title\":\"t2\",\"contents\":\"" + "가".repeat(256) + "\",\"date\":\"2024-01-01\"}\n"
+                + "{\"title\":\"" + "b".repeat(255) + "\",\"contents\":\"c3\",\"date\":\"2024-01-01\"}\n";
+        given(weatherClient.getWeather(LocalDate.of(2024, 1, 1))).willReturn("Sunny");
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, new StringReader(body), TodoImportFormat.NDJSON, null);
+
+        // then
+        assertEquals(1, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals("제목은 255자 이하여야 합니다.", response.getErrors().get(0).getMessage());
+        assertEquals("내용은 255자 이하여야 합니다.", response.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("batchSize 가 허용 범위를 벗어나면 예외가 발생한다.")
+    void shouldThrow_whenBatchSizeIsOutOfRange() {
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoImportService.importTodos(authUser, new StringReader(""), TodoImportFormat.NDJSON, 0));
+        assertEquals(ExceptionCode.VALIDATION_FAILED, exception.getExceptionCode());
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 목록 버전(ETag) 통합 테스트 (실제 트랜잭션, H2)
+ * - 먼저 쓴 트랜잭션이 나중에 커밋되는 경우를 별도 스레드(별도 커넥션)의 트랜잭션으로 만듭니다.
+ * - 저장한 데이터가 다른 테스트 컨텍스트의 DB 에 남지 않도록 별도의 in-memory DB 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:todo-list-version-test;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TodoListVersionIntegrationTest {
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollectionVersionCounter collectionVersionCounter;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("먼저 insert 한 일정이 다른 일정보다 늦게 커밋되어도, 커밋 후에는 일정 목록의 ETag 가 바뀐다.")
+    void shouldChangeTodosEtag_whenEarlierInsertCommitsLater() throws Exception {
+
+        // given
+        User user = userRepository.save(new User(UUID.randomUUID() + "@email.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        // 늦게 커밋할 트랜잭션: 일정 저장 경로와 같이 행을 쓴 뒤 목록 버전을 올리고 커밋하며, 그 사이에서 기다립니다.
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicReference<LocalDateTime> slowModifiedAt = new AtomicReference<>();
+        CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = todoRepository.saveAndFlush(new Todo("slow", "contents", "Sunny", user));
+            slowModifiedAt.set(todo.getModifiedAt());
+            written.countDown();
+            await(commit);
+            collectionVersionCounter.increment(CollectionVersionCounter.TODOS);
+        }));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+
+        // 나중에 insert 한 일정이 먼저 커밋되고, 그 상태의 목록과 ETag 를 받아 갑니다.
+        long fastTodoId = todoService.saveTodo(authUser, new TodoSaveRequest("fast", "contents")).getId();
+        assertTrue(slowModifiedAt.get().isBefore(todoRepository.findById(fastTodoId).orElseThrow().getModifiedAt()));
+        String etag = mockMvc.perform(get("/todos").param("size", "100").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("slow"))))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        commit.countDown();
+        slowWrite.get(5, TimeUnit.SECONDS);
+
+        // then
+        mockMvc.perform(get("/todos").param("size", "100").header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.content[*].title", hasItem("slow")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
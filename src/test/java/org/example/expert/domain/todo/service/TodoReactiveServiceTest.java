@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.common.exception.ExceptionCode;
+import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoReactiveRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TodoReactiveServiceTest")
+class TodoReactiveServiceTest {
+
+    @Mock
+    private TodoReactiveRepository todoReactiveRepository;
+    @InjectMocks
+    private TodoReactiveService todoReactiveService;
+
+    @Test
+    @DisplayName("목록과 전체 건수로 페이지를 만든다.")
+    void shouldBuildPage_fromListAndCount() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(11L, "title", "contents", "Sunny", new UserResponse(1L, "a@a.com"), now, now);
+        given(todoReactiveRepository.findTodoResponses(10L, 10)).willReturn(Flux.just(todo));
+        given(todoReactiveRepository.count()).willReturn(Mono.just(11L));
+
+        // when
+        Page<TodoResponse> result = todoReactiveService.getTodos(2, 10).block();
+
+        // then
+        assertNotNull(result);
+        assertEquals(1, result.getContent().size());
+        assertEquals(11L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(1, result.getNumber());
+    }
+
+    @Test
+    @DisplayName("일정이 없으면 NOT_FOUND_TODO 예외가 발생한다.")
+    void shouldThrow_whenTodoNotFound() {
+
+        // given
+        given(todoReactiveRepository.findTodoResponseById(1L)).willReturn(Mono.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoReactiveService.getTodo(1L).block());
+
+        // then
+        assertEquals(ExceptionCode.NOT_FOUND_TODO, exception.getExceptionCode());
+    }
+}
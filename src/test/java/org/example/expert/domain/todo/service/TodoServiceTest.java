@@ -1,9 +1,18 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.persistence.EntityManager;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.CursorResponse;
+import org.example.expert.common.dto.ResourceVersion;
+import org.example.expert.common.dto.Versioned;
+import org.example.expert.common.exception.ExceptionCode;
 import org.example.expert.common.exception.InvalidRequestException;
+import org.example.expert.common.util.CollectionVersionCounter;
+import org.example.expert.common.util.OptimisticLockExecutor;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -21,13 +30,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TodoServiceTest")
@@ -39,6 +58,18 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private OptimisticLockExecutor optimisticLockExecutor;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CollectionVersionCounter collectionVersionCounter;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -58,6 +89,8 @@ class TodoServiceTest {
             Todo mockTodo = new Todo(request.getTitle(), request.getContents(), todayWeather, mockUser);
 
             given(todoRepository.save(any())).willReturn(mockTodo);
+            given(transactionTemplate.execute(any()))
+                    .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
             // when
             TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, request);
@@ -65,6 +98,7 @@ class TodoServiceTest {
             // then
             assertEquals(mockTodo.getTitle(), todoSaveResponse.getTitle());
             assertEquals(mockTodo.getContents(), todoSaveResponse.getContents());
+            verify(collectionVersionCounter).increment(CollectionVersionCounter.TODOS);
         }
     }
 
@@ -80,15 +114,12 @@ class TodoServiceTest {
             int page = 10, size = 10;
             Pageable pageable = PageRequest.of(page - 1, size);
 
-            AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
-            User mockUser = User.fromAuthUser(authUser);
-            String todayWeather = "testWeather";
-
-            Todo mockTodo = new Todo("title", "contents", todayWeather, mockUser);
-            List<Todo> todoList = List.of(mockTodo);
-            Page<Todo> todoPage = new PageImpl<>(todoList, pageable, todoList.size());
+            TodoResponse todoResponse = new TodoResponse(1L, "title", "contents", "testWeather",
+                    1L, "test@email.com", LocalDateTime.now(), LocalDateTime.now());
+            List<TodoResponse> todoList = List.of(todoResponse);
+            Page<TodoResponse> todoPage = new PageImpl<>(todoList, pageable, todoList.size());
 
-            given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todoPage);
+            given(todoRepository.findTodoResponses(pageable)).willReturn(todoPage);
 
             // when
             Page<TodoResponse> result = todoService.getTodos(page, size);
@@ -101,6 +132,69 @@ class TodoServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("할 일 커서 기반 조회 테스트")
+    class getTodosByCursor {
+
+        @Test
+        @DisplayName("size 보다 많이 조회되면 마지막 항목의 커서를 돌려준다.")
+        public void shouldReturnNextCursor_whenMoreTodosExist() {
+
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+            TodoResponse first = new TodoResponse(2L, "title1", "contents1", "weather",
+                    1L, "test@email.com", modifiedAt, modifiedAt);
+            TodoResponse second = new TodoResponse(1L, "title2", "contents2", "weather",
+                    1L, "test@email.com", modifiedAt, modifiedAt);
+
+            given(todoRepository.findFirstPageByCursor(PageRequest.of(0, 2))).willReturn(List.of(first, second));
+
+            // when
+            CursorResponse<TodoResponse> result = todoService.getTodosByCursor(null, 1);
+
+            // then
+            assertEquals(1, result.getContent().size());
+            assertTrue(result.isHasNext());
+            TodoCursor cursor = TodoCursor.decode(result.getNextCursor());
+            assertEquals(modifiedAt, cursor.getModifiedAt());
+            assertEquals(2L, cursor.getId());
+        }
+
+        @Test
+        @DisplayName("커서 다음 항목을 조회하고, 더 없으면 nextCursor 는 null 이다.")
+        public void shouldSeekAfterCursor() {
+
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+            String cursor = new TodoCursor(modifiedAt, 10L).encode();
+            TodoResponse todo = new TodoResponse(9L, "title", "contents", "weather",
+                    1L, "test@email.com", modifiedAt, modifiedAt);
+
+            given(todoRepository.findNextPageByCursor(modifiedAt, 10L, PageRequest.of(0, 11))).willReturn(List.of(todo));
+
+            // when
+            CursorResponse<TodoResponse> result = todoService.getTodosByCursor(cursor, 10);
+
+            // then
+            assertEquals(1, result.getContent().size());
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("커서 형식이 잘못되면 예외를 던진다.")
+        public void shouldThrowException_whenCursorIsInvalid() {
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+                todoService.getTodosByCursor("not-a-cursor", 10);
+            });
+
+            // then
+            assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("할 일 단건 조회 테스트")
     class getTodo {
@@ -110,11 +204,11 @@ class TodoServiceTest {
         public void shouldThrowException_whenTodoDoesNotExist() {
 
             // given
-            given(todoRepository.findByIdWithUser(any())).willReturn(Optional.empty());
+            given(todoRepository.findById(any())).willReturn(Optional.empty());
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                todoService.getTodo(1L);
+                todoService.getTodo(1L, new ResourceVersion(1L, 0L, null));
             });
 
             // then
@@ -122,22 +216,147 @@ class TodoServiceTest {
         }
 
         @Test
-        @DisplayName("todo를 성공적으로 불러온다.")
+        @DisplayName("todo를 성공적으로 불러오고, 읽은 todo 의 버전을 함께 반환한다.")
         public void shouldFetchTodoSuccessfully() {
 
             // given
             User mockUser = new User("test@email.com", "1234", UserRole.USER);
             Todo mockTodo = new Todo("title", "contents", "weather", mockUser);
+            ReflectionTestUtils.setField(mockTodo, "id", 1L);
+            ReflectionTestUtils.setField(mockTodo, "version", 3L);
+            ReflectionTestUtils.setField(mockTodo, "modifiedAt", LocalDateTime.of(2024, 1, 1, 12, 0));
+            ResourceVersion version = new ResourceVersion(1L, 3L, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+            given(todoRepository.findById(any())).willReturn(Optional.of(mockTodo));
+
+            // when
+            Versioned<TodoResponse> response = todoService.getTodo(1L, version);
+
+            // then
+            assertEquals(mockTodo.getTitle(), response.getBody().getTitle());
+            assertEquals(mockTodo.getContents(), response.getBody().getContents());
+            assertEquals(version.getEtag(), response.getVersion().getEtag());
+            verify(entityManager, never()).refresh(any());
+        }
 
-            given(todoRepository.findByIdWithUser(any())).willReturn(Optional.of(mockTodo));
+        @Test
+        @DisplayName("읽은 todo 의 버전이 요청한 버전보다 오래되었으면 DB 에서 다시 읽어 반환한다.")
+        public void shouldRefreshTodo_whenLoadedVersionIsStale() {
+
+            // given
+            User mockUser = new User("test@email.com", "1234", UserRole.USER);
+            Todo staleTodo = new Todo("title", "contents", "weather", mockUser);
+            ReflectionTestUtils.setField(staleTodo, "id", 1L);
+            ReflectionTestUtils.setField(staleTodo, "version", 3L);
+            ReflectionTestUtils.setField(staleTodo, "modifiedAt", LocalDateTime.of(2024, 1, 1, 12, 0));
+            ResourceVersion version = new ResourceVersion(1L, 4L, LocalDateTime.of(2024, 1, 1, 12, 5));
+
+            given(todoRepository.findById(any())).willReturn(Optional.of(staleTodo));
+            willAnswer(invocation -> {
+                staleTodo.update("new title", "new contents");
+                ReflectionTestUtils.setField(staleTodo, "version", 4L);
+                ReflectionTestUtils.setField(staleTodo, "modifiedAt", LocalDateTime.of(2024, 1, 1, 12, 5));
+                return null;
+            }).given(entityManager).refresh(staleTodo);
+
+            // when
+            Versioned<TodoResponse> response = todoService.getTodo(1L, version);
+
+            // then
+            assertEquals("new title", response.getBody().getTitle());
+            assertEquals(version.getEtag(), response.getVersion().getEtag());
+        }
+
+        @Test
+        @DisplayName("todo가 존재하지 않으면 버전 조회 시 예외를 던진다.")
+        public void shouldThrowException_whenTodoVersionDoesNotExist() {
+
+            // given
+            given(todoRepository.findVersionById(1L)).willReturn(Optional.empty());
 
             // when
-            TodoResponse response = todoService.getTodo(1L);
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
+                todoService.getTodoVersion(1L);
+            });
 
             // then
-            assertEquals(mockTodo.getTitle(), response.getTitle());
-            assertEquals(mockTodo.getContents(), response. getContents());
+            assertEquals("일정이 존재하지 않습니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("할 일 수정 테스트")
+    class updateTodo {
 
+        private final AuthUser authUser = new AuthUser(1L, "test@email.com", UserRole.USER);
+
+        private void runActionDirectly() {
+            given(optimisticLockExecutor.execute(anyBoolean(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        }
+
+        @Test
+        @DisplayName("If-Match 없이 요청한 항목만 수정하고, 충돌 시 재시도하도록 실행한다.")
+        public void shouldUpdateRequestedFieldsOnly_whenUnconditional() {
+
+            // given
+            runActionDirectly();
+            Todo todo = new Todo("title", "contents", "weather", User.fromAuthUser(authUser));
+            ResourceVersion updatedVersion = new ResourceVersion(1L, 1L, LocalDateTime.now());
+
+            given(todoRepository.findByIdBypassingCache(1L)).willReturn(Optional.of(todo));
+            given(todoRepository.findVersionById(1L)).willReturn(Optional.of(updatedVersion));
+
+            // when
+            Versioned<TodoResponse> result = todoService.updateTodo(authUser, 1L, null, new TodoUpdateRequest("new title", null));
+
+            // then
+            verify(optimisticLockExecutor).execute(eq(true), any());
+            assertEquals("new title", result.getBody().getTitle());
+            assertEquals("contents", result.getBody().getContents());
+            assertEquals(updatedVersion.getEtag(), result.getVersion().getEtag());
+            verify(collectionVersionCounter).increment(CollectionVersionCounter.TODOS);
+        }
+
+        @Test
+        @DisplayName("If-Match 가 현재 버전과 다르면 수정하지 않고 PRECONDITION_FAILED 예외를 던진다.")
+        public void shouldThrowPreconditionFailed_whenIfMatchDiffers() {
+
+            // given
+            runActionDirectly();
+            Todo todo = new Todo("title", "contents", "weather", User.fromAuthUser(authUser));
+
+            given(todoRepository.findByIdBypassingCache(1L)).willReturn(Optional.of(todo));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    todoService.updateTodo(authUser, 1L, "\"1-7-0\"", new TodoUpdateRequest("new title", null)));
+
+            // then
+            assertEquals(ExceptionCode.PRECONDITION_FAILED, exception.getExceptionCode());
+            assertEquals("title", todo.getTitle());
+            verify(optimisticLockExecutor).execute(eq(false), any());
+            verify(todoRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("작성자가 아니면 FORBIDDEN_ACCESS 예외를 던진다.")
+        public void shouldThrowForbidden_whenNotOwner() {
+
+            // given
+            runActionDirectly();
+            User owner = User.fromAuthUser(new AuthUser(2L, "owner@email.com", UserRole.USER));
+            Todo todo = new Todo("title", "contents", "weather", owner);
+
+            given(todoRepository.findByIdBypassingCache(1L)).willReturn(Optional.of(todo));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    todoService.updateTodo(authUser, 1L, null, new TodoUpdateRequest("new title", null)));
+
+            // then
+            assertEquals(ExceptionCode.FORBIDDEN_ACCESS, exception.getExceptionCode());
+            assertEquals("title", todo.getTitle());
         }
     }
-}
\ No newline at end of file
+}
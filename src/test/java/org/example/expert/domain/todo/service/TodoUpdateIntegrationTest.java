@@ -0,0 +1,270 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.common.dto.AuthUser;
+import org.example.expert.common.dto.Versioned;
+import org.example.expert.common.util.JwtUtil;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 수정의 낙관적 락 통합 테스트 (실제 트랜잭션, OSIV, H2)
+ * - 요청마다 OSIV 가 EntityManager 를 묶어 두는 상태에서 재시도/412/409 를 검증합니다.
+ * - 다른 요청의 수정은 별도 스레드(별도 커넥션)의 UPDATE 로 끼워 넣습니다.
+ * - 저장한 데이터가 다른 테스트 컨텍스트의 DB 에 남지 않도록 별도의 in-memory DB 를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-update-test;DB_CLOSE_DELAY=-1",
+        "optimistic-lock.max-attempts=10",
+        "optimistic-lock.backoff-millis=5"
+})
+@AutoConfigureMockMvc
+class TodoUpdateIntegrationTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    @SpyBean
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+    private String token;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(UUID.randomUUID() + "@email.com", "password", UserRole.USER));
+        token = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        todoId = todoRepository.save(new Todo("title", "contents", "Sunny", user)).getId();
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 요청이 먼저 수정하면, 최신 상태를 다시 읽어 변경을 재적용한다.")
+    void shouldRetryOnFreshState_whenConcurrentUpdateCommitted() throws Exception {
+
+        // given
+        List<Boolean> entityManagerBound = new ArrayList<>();
+        willAnswer(invocation -> {
+            Todo todo = findByIdBypassingCache();
+            entityManagerBound.add(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            if (entityManagerBound.size() == 1) {
+                updateConcurrently("contents = 'concurrent'");
+            }
+            return Optional.of(todo);
+        }).given(todoRepository).findByIdBypassingCache(todoId);
+
+        // when
+        mockMvc.perform(update("{\"title\":\"new title\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"))
+                .andExpect(jsonPath("$.contents").value("concurrent"));
+
+        // then
+        assertEquals(List.of(true, true), entityManagerBound);
+        Map<String, Object> row = row();
+        assertEquals("new title", row.get("TITLE"));
+        assertEquals("concurrent", row.get("CONTENTS"));
+        assertEquals(2L, ((Number) row.get("VERSION")).longValue());
+    }
+
+    @Test
+    @DisplayName("요청의 영속성 컨텍스트에 이전 버전의 일정이 남아 있어도, DB 의 최신 버전으로 If-Match 를 비교한다.")
+    void shouldCompareIfMatchWithFreshState_whenRequestSessionHoldsStaleTodo() {
+
+        // given
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+
+        try {
+            // OSIV 요청 안에서 먼저 읽어 둔 일정이 다른 요청의 수정으로 오래된 상태가 됩니다.
+            requestEntityManager.find(Todo.class, todoId);
+            updateConcurrently("contents = 'concurrent'");
+            String ifMatch = todoService.getTodoVersion(todoId).getEtag();
+
+            // when
+            Versioned<TodoResponse> updated = todoService.updateTodo(
+                    new AuthUser(user.getId(), user.getEmail(), user.getUserRole()),
+                    todoId, ifMatch, new TodoUpdateRequest("new title", null));
+
+            // then
+            assertEquals("concurrent", updated.getBody().getContents());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+        assertEquals("new title", row().get("TITLE"));
+    }
+
+    @Test
+    @DisplayName("If-Match 가 현재 버전과 다르면 수정하지 않고 412 를 반환한다.")
+    void shouldReturnPreconditionFailed_whenIfMatchIsStale() throws Exception {
+
+        // given
+        String etag = mockMvc.perform(get("/todos/" + todoId).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        updateConcurrently("contents = 'concurrent'");
+
+        // when
+        mockMvc.perform(update("{\"title\":\"new title\"}").header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+
+        // then
+        assertEquals("title", row().get("TITLE"));
+    }
+
+    @Test
+    @DisplayName("If-Match 확인 후 커밋 전에 다른 요청이 수정하면 재시도하지 않고 412 를 반환한다.")
+    void shouldReturnPreconditionFailed_whenConflictAfterIfMatchCheck() throws Exception {
+
+        // given
+        String etag = mockMvc.perform(get("/todos/" + todoId).header("Authorization", token))
+                .andReturn().getResponse().getHeader("ETag");
+        willAnswer(invocation -> {
+            Todo todo = findByIdBypassingCache();
+            updateConcurrently("contents = 'concurrent'");
+            return Optional.of(todo);
+        }).given(todoRepository).findByIdBypassingCache(todoId);
+
+        // when
+        mockMvc.perform(update("{\"title\":\"new title\"}").header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+
+        // then
+        verify(todoRepository, times(1)).findByIdBypassingCache(anyLong());
+        assertEquals("title", row().get("TITLE"));
+    }
+
+    @Test
+    @DisplayName("매 시도마다 충돌하면 최대 시도 횟수만큼 재시도한 뒤 409 를 반환한다.")
+    void shouldReturnConflict_whenRetriesExhausted() throws Exception {
+
+        // given
+        willAnswer(invocation -> {
+            Todo todo = findByIdBypassingCache();
+            updateConcurrently("contents = 'concurrent'");
+            return Optional.of(todo);
+        }).given(todoRepository).findByIdBypassingCache(todoId);
+
+        // when
+        mockMvc.perform(update("{\"title\":\"new title\"}"))
+                .andExpect(status().isConflict());
+
+        // then
+        verify(todoRepository, times(MAX_ATTEMPTS)).findByIdBypassingCache(anyLong());
+        Map<String, Object> row = row();
+        assertEquals("title", row.get("TITLE"));
+        assertEquals(MAX_ATTEMPTS, ((Number) row.get("VERSION")).longValue());
+    }
+
+    @Test
+    @DisplayName("여러 요청이 동시에 수정해도 모두 반영되고 버전은 요청 수만큼 증가한다.")
+    void shouldApplyAllUpdates_whenRequestsRunConcurrently() throws Exception {
+
+        // given
+        int requestCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statuses = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                String body = "{\"title\":\"title" + i + "\"}";
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(update(body)).andReturn().getResponse().getStatus();
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals((long) requestCount, ((Number) row().get("VERSION")).longValue());
+    }
+
+    private MockHttpServletRequestBuilder update(String body) {
+        return patch("/todos/" + todoId)
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    // 스파이한 리포지토리의 쿼리 메서드는 실제 메서드를 호출할 수 없으므로 같은 JPQL 을 요청의 EntityManager 로 실행합니다.
+    private Todo findByIdBypassingCache() {
+        return entityManager.createQuery("SELECT t FROM Todo t WHERE t.id = :todoId", Todo.class)
+                .setParameter("todoId", todoId)
+                .getSingleResult();
+    }
+
+    // 요청 스레드의 트랜잭션(커넥션)과 무관하게 다른 요청의 수정을 커밋합니다.
+    private void updateConcurrently(String set) {
+        CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                "UPDATE todos SET " + set + ", version = version + 1, modified_at = CURRENT_TIMESTAMP(6) WHERE id = ?",
+                todoId)).join();
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT title, contents, version FROM todos WHERE id = ?", todoId);
+    }
+}
@@ -0,0 +1,56 @@
+-- Flyway 도입 이전에 ddl-auto 가 H2 에 만든 스키마와 데이터 (Flyway baseline 테스트용)
+
+CREATE TABLE users
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    email       VARCHAR(255),
+    password    VARCHAR(100) NOT NULL,
+    user_role   VARCHAR(255) CHECK (user_role IN ('ADMIN', 'USER')),
+    PRIMARY KEY (id),
+    CONSTRAINT uk6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE todos
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    contents    VARCHAR(255),
+    title       VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk35uqu8bl5ixd7ikysayov3ac FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    contents    VARCHAR(255),
+    todo_id     BIGINT NOT NULL,
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fkpcrlqhfy7x5b4uhh5j4nyk4jc FOREIGN KEY (todo_id) REFERENCES todos (id),
+    CONSTRAINT fk8omq0tc18jd43bu5tjh6jvraq FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    todo_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fkmc8ccdpclbv4lg0hqy2ui4bwi FOREIGN KEY (todo_id) REFERENCES todos (id),
+    CONSTRAINT fkj5t3fu1c6xs7fyxl4ejscn3cq FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+INSERT INTO users (id, email, password, user_role) VALUES (10, 'legacy@email.com', 'password', 'USER');
+INSERT INTO todos (id, title, contents, weather, user_id, modified_at)
+    VALUES (20, 'legacy', 'contents', 'Sunny', 10, TIMESTAMP '2024-01-01 12:00:00');
+INSERT INTO comments (id, contents, todo_id, user_id, modified_at)
+    VALUES (30, 'legacy', 20, 10, TIMESTAMP '2024-01-01 12:00:00');
+INSERT INTO managers (id, todo_id, user_id) VALUES (40, 20, 10);